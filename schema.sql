@@ -0,0 +1,41 @@
+-- Schema for turf_booking_db (MySQL 8 dialect; also loads in H2 with MODE=MySQL).
+-- Safe to re-run: indexes are declared inside CREATE TABLE IF NOT EXISTS, since MySQL has no
+-- CREATE INDEX IF NOT EXISTS.
+
+CREATE TABLE IF NOT EXISTS users (
+    id INT AUTO_INCREMENT PRIMARY KEY,
+    username VARCHAR(64) NOT NULL,
+    email VARCHAR(255) NOT NULL,
+    password VARCHAR(255) NOT NULL,
+    role VARCHAR(32) NOT NULL,
+    CONSTRAINT uq_users_username UNIQUE (username)
+);
+
+CREATE TABLE IF NOT EXISTS turfs (
+    id INT AUTO_INCREMENT PRIMARY KEY,
+    owner_username VARCHAR(64),
+    name VARCHAR(128) NOT NULL,
+    address VARCHAR(255) NOT NULL,
+    hourly_rate DECIMAL(10, 2) NOT NULL,
+    operating_hours VARCHAR(32),
+    category VARCHAR(32) NOT NULL,
+    -- Customer catalog: keyset pagination on (category, id)
+    INDEX idx_turfs_category_id (category, id),
+    -- Owner dashboard: list an owner's turfs
+    INDEX idx_turfs_owner (owner_username, id)
+);
+
+CREATE TABLE IF NOT EXISTS bookings (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    turf_id INT NOT NULL,
+    username VARCHAR(64),
+    booking_date DATE NOT NULL,
+    slot_hour TINYINT NOT NULL,
+    total_cost DECIMAL(10, 2) NOT NULL,
+    CONSTRAINT fk_bookings_turf FOREIGN KEY (turf_id) REFERENCES turfs (id),
+    -- One booking per turf slot: concurrent confirmations of the same slot cannot both commit
+    CONSTRAINT uq_bookings_slot UNIQUE (turf_id, booking_date, slot_hour),
+    -- Owner analytics: per-turf COUNT/SUM over a date range.
+    -- total_cost is carried in the index so the GROUP BY is answered from the index alone.
+    INDEX idx_bookings_turf_date (turf_id, booking_date, total_cost)
+);
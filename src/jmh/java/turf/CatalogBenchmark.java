@@ -0,0 +1,55 @@
+package turf;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Customer catalog browsing: a category listing from the cache and from the embedded
+ * database, and the cost of mapping one row to a TurfModel.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class CatalogBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class Catalog {
+        @Param({"1000"})
+        int turfs;
+
+        @Setup
+        public void load() throws Exception {
+            TestDatabase.reset();
+            TestDatabase.seedTurfs(turfs);
+        }
+    }
+
+    @Benchmark
+    public List<TurfModel> categoryCached(Catalog catalog) throws Exception {
+        return TurfService.getTurfsByCategory("Football");
+    }
+
+    @Benchmark
+    public List<TurfModel> categoryUncached(Catalog catalog) throws Exception {
+        TurfService.invalidateCatalog();
+        return TurfService.getTurfsByCategory("Football");
+    }
+
+    @Benchmark
+    public TurfModel constructTurfModel() {
+        return new TurfModel(42, "Star Turf Club", "City Park", 1500.0, "06:00 - 23:00", "Football");
+    }
+}
@@ -0,0 +1,71 @@
+package turf;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Login cost: one PBKDF2 verification per cost setting (a first login), and a repeat login
+ * through AuthService (username lookup plus a verified-credential cache hit) against the
+ * embedded database. Sample mode, so the JSON carries p50/p90/p99.
+ */
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class LoginBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class StoredHash {
+        @Param({"10000", "50000", "120000", "300000"})
+        int iterations;
+
+        String stored;
+
+        @Setup
+        public void hash() {
+            stored = PasswordHasher.hash("correct horse".toCharArray(), iterations);
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class Users {
+        @Param({"100"})
+        int users;
+
+        /** Seeds the users and logs each in once, so every measured login is a repeat login. */
+        @Setup
+        public void load() throws Exception {
+            TestDatabase.reset();
+            TestDatabase.seedUsers(users);
+            for (int i = 0; i < users; i++) {
+                AuthService.authenticate("user" + i, TestDatabase.PASSWORD);
+            }
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Cursor {
+        int next;
+    }
+
+    @Benchmark
+    public boolean verifyPassword(StoredHash hash) {
+        return PasswordHasher.verify("correct horse".toCharArray(), hash.stored);
+    }
+
+    @Benchmark
+    public String repeatLogin(Users users, Cursor cursor) throws Exception {
+        return AuthService.authenticate("user" + (cursor.next++ % users.users), TestDatabase.PASSWORD);
+    }
+}
@@ -0,0 +1,40 @@
+package turf;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** What the instrumentation itself costs on the hot paths, from four threads at once. */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(4)
+@State(Scope.Benchmark)
+public class MetricsBenchmark {
+
+    private final LongAdder counter = Metrics.counter("bench.metrics");
+    private final LatencyHistogram histogram = Metrics.histogram("bench.metrics");
+
+    @Benchmark
+    public LongAdder counterIncrement() {
+        counter.increment();
+        return counter;
+    }
+
+    @Benchmark
+    public LatencyHistogram histogramRecord() {
+        Metrics.recordSince(histogram, System.nanoTime() - 1_000);
+        return histogram;
+    }
+}
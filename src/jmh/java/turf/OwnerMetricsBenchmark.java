@@ -0,0 +1,88 @@
+package turf;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Per-turf booking count and income for the owner dashboard: the linear scans over every
+ * booking that calculateBookings/calculateIncome used to do, against the aggregate store
+ * they now delegate to, over 1k turfs.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@State(Scope.Benchmark)
+public class OwnerMetricsBenchmark {
+
+    private static final int TURFS = 1_000;
+
+    @Param({"1000", "100000", "1000000"})
+    int bookings;
+
+    private final String[] turfIds = new String[TURFS];
+    private List<TurfOwnerDashboard.Booking> allBookings;
+    private BookingAggregates aggregates;
+    private int cursor;
+
+    @Setup
+    public void load() {
+        for (int i = 0; i < TURFS; i++) {
+            turfIds[i] = "T" + (1000 + i);
+        }
+        allBookings = new ArrayList<>(bookings);
+        aggregates = new BookingAggregates(TURFS);
+        for (int i = 0; i < bookings; i++) {
+            TurfOwnerDashboard.Booking booking = new TurfOwnerDashboard.Booking(turfIds[i % TURFS], 500.0 + (i % 7) * 250.0);
+            allBookings.add(booking);
+            aggregates.record(booking.turfId, booking.totalCost);
+        }
+    }
+
+    @Benchmark
+    public int bookingsLinearScan() {
+        String turfId = turfIds[cursor++ % TURFS];
+        int count = 0;
+        for (TurfOwnerDashboard.Booking booking : allBookings) {
+            if (booking.turfId.equals(turfId)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Benchmark
+    public double incomeLinearScan() {
+        String turfId = turfIds[cursor++ % TURFS];
+        double income = 0.0;
+        for (TurfOwnerDashboard.Booking booking : allBookings) {
+            if (booking.turfId.equals(turfId)) {
+                income += booking.totalCost;
+            }
+        }
+        return income;
+    }
+
+    @Benchmark
+    public int bookingsAggregates() {
+        return aggregates.bookings(turfIds[cursor++ % TURFS]);
+    }
+
+    @Benchmark
+    public double incomeAggregates() {
+        return aggregates.income(turfIds[cursor++ % TURFS]);
+    }
+}
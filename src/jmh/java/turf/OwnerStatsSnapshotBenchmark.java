@@ -0,0 +1,98 @@
+package turf;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Opening the owner dashboard's all-time metrics over 1k turfs (100 per owner): the GROUP BY
+ * over every booking the owner has, against the stats snapshot plus the bookings after it
+ * (the newest turf.statsSnapshot.lagIds ids, 10000 by default). Another owner's booking
+ * arrives before every open, which also stops H2 from reusing the previous query result.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 1, jvmArgsAppend = "-Xmx3g")
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@State(Scope.Benchmark)
+public class OwnerStatsSnapshotBenchmark {
+
+    private static final int TURFS = 1_000;
+    private static final String OWNER = "owner0";
+
+    @Param({"100000", "1000000"})
+    int bookings;
+
+    private int otherTurfId;
+    private int arrivals;
+
+    /** Bookings spread evenly over the turfs, each turf's in consecutive hourly slots. */
+    @Setup
+    public void seed() throws Exception {
+        TestDatabase.reset();
+        TestDatabase.seedTurfs(TURFS);
+        int firstTurfId;
+        try (Connection conn = DBConnection.getConnection();
+             PreparedStatement min = conn.prepareStatement("SELECT MIN(id) FROM turfs");
+             ResultSet rs = min.executeQuery()) {
+            rs.next();
+            firstTurfId = rs.getInt(1);
+        }
+        otherTurfId = firstTurfId + 1; // owner1's
+        LocalDate base = LocalDate.of(2020, 1, 1);
+        try (Connection conn = DBConnection.getConnection();
+             PreparedStatement pst = conn.prepareStatement(
+                 "INSERT INTO bookings(turf_id, username, booking_date, slot_hour, total_cost) VALUES (?, 'user0', ?, ?, ?)")) {
+            conn.setAutoCommit(false);
+            for (int i = 0; i < bookings; i++) {
+                int slot = i / TURFS;
+                pst.setInt(1, firstTurfId + i % TURFS);
+                pst.setObject(2, base.plusDays(slot / 17));
+                pst.setInt(3, 6 + slot % 17);
+                pst.setDouble(4, 500.0 + (i % 7) * 250.0);
+                pst.addBatch();
+                if (i % 10_000 == 9_999) {
+                    pst.executeBatch();
+                    conn.commit();
+                }
+            }
+            pst.executeBatch();
+            conn.commit();
+            conn.setAutoCommit(true);
+        }
+        OwnerStatsSnapshot.loadTurfStats(OWNER); // the owner's first open writes the snapshot
+    }
+
+    @Setup(Level.Invocation)
+    public void newBooking() throws Exception {
+        int slot = arrivals++;
+        TestDatabase.execute("INSERT INTO bookings(turf_id, username, booking_date, slot_hour, total_cost) VALUES (?, 'user1', ?, ?, 1000)",
+            otherTurfId, LocalDate.of(2090, 1, 1).plusDays(slot / 17), 6 + slot % 17);
+    }
+
+    @Benchmark
+    public List<OwnerAnalyticsRepository.TurfStats> groupByAllBookings() throws Exception {
+        return OwnerAnalyticsRepository.loadTurfStats(OWNER, null, null);
+    }
+
+    @Benchmark
+    public List<OwnerAnalyticsRepository.TurfStats> snapshotPlusTail() throws Exception {
+        return OwnerStatsSnapshot.loadTurfStats(OWNER);
+    }
+}
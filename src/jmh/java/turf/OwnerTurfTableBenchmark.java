@@ -0,0 +1,95 @@
+package turf;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * The owner dashboard's turf table for an owner with many turfs: re-sorting by bookings,
+ * re-filtering by a search string, and filling a sorted table one "Add New Turf" at a time.
+ * The model has no listeners here, so it is driven from the benchmark thread, not the EDT.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@State(Scope.Benchmark)
+public class OwnerTurfTableBenchmark {
+
+    private static final String[] FILTERS = {"street 42", "turf 9"};
+
+    @Param({"1000", "10000"})
+    int turfs;
+
+    private TurfOwnerDashboard.Turf[] ownerTurfs;
+    private BookingAggregates aggregates;
+    private OwnerTurfTableModel model;
+    private OwnerTurfTableModel emptySorted;
+    private int nextFilter;
+
+    @Setup
+    public void load() {
+        ownerTurfs = new TurfOwnerDashboard.Turf[turfs];
+        String[] turfIds = new String[turfs];
+        aggregates = new BookingAggregates(turfs);
+        Random random = new Random(42);
+        for (int i = 0; i < turfs; i++) {
+            turfIds[i] = "T" + (1000 + i);
+            ownerTurfs[i] = new TurfOwnerDashboard.Turf(turfIds[i], "Turf " + i, "Street " + (i % 500), 1000 + (i % 5) * 250);
+            aggregates.add(turfIds[i], random.nextInt(5_000), random.nextInt(5_000_000) / 100.0);
+        }
+        List<TurfOwnerDashboard.Turf> list = new ArrayList<>(turfs);
+        for (TurfOwnerDashboard.Turf turf : ownerTurfs) {
+            list.add(turf);
+        }
+        model = new OwnerTurfTableModel();
+        model.setTurfs(list);
+        model.installMetrics(OwnerTurfTableModel.computeMetrics(turfIds, aggregates));
+    }
+
+    @Setup(Level.Invocation)
+    public void emptyTable() {
+        emptySorted = new OwnerTurfTableModel();
+        emptySorted.installMetrics(OwnerTurfTableModel.computeMetrics(new String[0], aggregates));
+        emptySorted.toggleSort(OwnerTurfTableModel.BOOKINGS);
+    }
+
+    @Benchmark
+    public OwnerTurfTableModel sortByBookings() {
+        model.toggleSort(OwnerTurfTableModel.BOOKINGS);
+        return model;
+    }
+
+    @Benchmark
+    public OwnerTurfTableModel filter() {
+        model.setFilter(FILTERS[nextFilter++ % FILTERS.length]);
+        return model;
+    }
+
+    /** Adds every turf to an empty table sorted by bookings; one invocation is the whole fill. */
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(iterations = 5)
+    @Measurement(iterations = 20)
+    public OwnerTurfTableModel addTurfs() {
+        for (TurfOwnerDashboard.Turf turf : ownerTurfs) {
+            emptySorted.addTurf(turf, aggregates);
+        }
+        return emptySorted;
+    }
+}
@@ -0,0 +1,71 @@
+package turf;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Pricing a week grid (turfs x 7 days x 24 hours) with a third of the slots booked, from
+ * cached day quotes and from scratch, and one cached day quote as the booking form asks for it.
+ */
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@State(Scope.Benchmark)
+public class PricingBenchmark {
+
+    @Param({"1000"})
+    int turfs;
+
+    private PricingEngine engine;
+    private int[] turfIds;
+    private double[] baseRates;
+    private LocalDate start;
+
+    @Setup
+    public void book() {
+        SlotAvailability availability = new SlotAvailability();
+        engine = new PricingEngine(availability);
+        turfIds = new int[turfs];
+        baseRates = new double[turfs];
+        start = LocalDate.now();
+        for (int i = 0; i < turfs; i++) {
+            turfIds[i] = i + 1;
+            baseRates[i] = 800.0 + (i % 9) * 150.0;
+            availability.registerTurf(turfIds[i], "06:00 - 23:00");
+            for (int d = 0; d < 7; d++) {
+                for (int hour = 6 + (i + d) % 3; hour < 23; hour += 3) {
+                    availability.markBooked(turfIds[i], start.plusDays(d), hour);
+                }
+            }
+        }
+    }
+
+    @Benchmark
+    public PricingEngine.Grid quoteWeek() {
+        return engine.quoteWeek(turfIds, baseRates, start);
+    }
+
+    @Benchmark
+    public PricingEngine.Grid quoteWeekUncached() {
+        engine.invalidate();
+        return engine.quoteWeek(turfIds, baseRates, start);
+    }
+
+    @Benchmark
+    public double[] quoteDayCached() {
+        return engine.quoteDay(turfIds[turfs / 2], baseRates[turfs / 2], start);
+    }
+}
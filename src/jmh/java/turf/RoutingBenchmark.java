@@ -0,0 +1,60 @@
+package turf;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Overhead of routing a read: borrow and return a replica connection (simulated databases). */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@State(Scope.Benchmark)
+public class RoutingBenchmark {
+
+    @Param({"ROUND_ROBIN", "LEAST_LOADED"})
+    RoutingDataSource.Strategy policy;
+
+    private SimulatedDatabase[] databases;
+    private RoutingDataSource router;
+
+    @Setup
+    public void start() {
+        databases = new SimulatedDatabase[] {
+            SimulatedDatabase.create("primary"), SimulatedDatabase.create("replica1"), SimulatedDatabase.create("replica2")
+        };
+        Map<String, ConnectionPool> replicas = new LinkedHashMap<>();
+        replicas.put(databases[1].url, databases[1].pool);
+        replicas.put(databases[2].url, databases[2].pool);
+        router = new RoutingDataSource(databases[0].pool, replicas, policy, 60_000);
+    }
+
+    @TearDown
+    public void stop() {
+        for (SimulatedDatabase db : databases) {
+            db.pool.close();
+        }
+    }
+
+    @Benchmark
+    public Connection getReadConnection() throws SQLException {
+        Connection conn = router.getReadConnection(null);
+        conn.close();
+        return conn;
+    }
+}
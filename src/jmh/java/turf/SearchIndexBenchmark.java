@@ -0,0 +1,81 @@
+package turf;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Turf search over a synthetic catalog: building the index, top-10 queries, and one add. */
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@State(Scope.Benchmark)
+public class SearchIndexBenchmark {
+
+    private static final String[] PREFIXES = {"Star", "Champions", "Green", "Royal", "Sunset", "City", "Victory", "Golden", "Urban", "Eagle"};
+    private static final String[] KINDS = {"Turf", "Arena", "Pitch", "Ground", "Sports Club", "Court", "Field", "Dome"};
+    private static final String[] STREETS = {"Main Road", "Park Street", "Riverside", "Lake View", "Station Road", "Hill Top", "Market Lane"};
+    private static final String[] AREAS = {"Andheri", "Bandra", "Koramangala", "Indiranagar", "Salt Lake", "Gachibowli", "Powai", "Whitefield"};
+
+    @Param({"100000"})
+    int turfs;
+
+    @State(Scope.Benchmark)
+    public static class Query {
+        @Param({"cham", "champions arena", "chmpions", "royal court koramangala", "lake view powai", "eagle dome 4242"})
+        String text;
+    }
+
+    private List<TurfModel> catalog;
+    private TurfSearchIndex index;
+    private int nextId;
+
+    @Setup
+    public void load() {
+        catalog = new ArrayList<>(turfs);
+        Random random = new Random(42);
+        for (int i = 1; i <= turfs; i++) {
+            String name = PREFIXES[random.nextInt(PREFIXES.length)] + " " + KINDS[random.nextInt(KINDS.length)] + " " + i;
+            String address = (1 + random.nextInt(300)) + " " + STREETS[random.nextInt(STREETS.length)] + ", " + AREAS[random.nextInt(AREAS.length)];
+            catalog.add(new TurfModel(i, name, address, 1000.0, "06:00 - 23:00", "Football"));
+        }
+        index = new TurfSearchIndex();
+        index.addAll(catalog);
+        nextId = turfs;
+    }
+
+    @Benchmark
+    public List<TurfModel> search(Query query) {
+        return index.search(query.text, 10);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Measurement(iterations = 10)
+    public TurfSearchIndex build() {
+        TurfSearchIndex built = new TurfSearchIndex();
+        built.addAll(catalog);
+        return built;
+    }
+
+    @Benchmark
+    public TurfSearchIndex add() {
+        int id = ++nextId;
+        index.add(new TurfModel(id, "Star Turf " + id, "12 Main Road, Powai", 1000.0, "06:00 - 23:00", "Football"));
+        return index;
+    }
+}
@@ -0,0 +1,149 @@
+package turf;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import javax.swing.SwingUtilities;
+
+/**
+ * Runs blocking data-access calls (JDBC) off the Swing Event Dispatch Thread.
+ * Work goes to a shared worker executor (virtual threads when the JDK provides them)
+ * and results are handed back as CompletableFutures that can be marshalled onto the EDT.
+ */
+public final class AsyncDataAccess {
+
+    private static final ExecutorService EXECUTOR = createExecutor("turf-data");
+    private static final LatencyHistogram EDT_CALLBACK_TIME = Metrics.histogram("edt.callback");
+
+    private AsyncDataAccess() {}
+
+    /** The shared worker executor used for database calls. */
+    public static ExecutorService executor() {
+        return EXECUTOR;
+    }
+
+    /**
+     * Creates a virtual-thread-per-task executor on JDK 21+, otherwise a bounded pool
+     * of daemon platform threads (size from turf.async.threads, default 8).
+     */
+    static ExecutorService createExecutor(String namePrefix) {
+        try {
+            Method factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return (ExecutorService) factory.invoke(null);
+        } catch (ReflectiveOperationException e) {
+            AtomicInteger counter = new AtomicInteger();
+            return Executors.newFixedThreadPool(Integer.getInteger("turf.async.threads", 8), runnable -> {
+                Thread thread = new Thread(runnable, namePrefix + "-" + counter.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+    }
+
+    /**
+     * Runs the task on the worker executor. Cancelling the returned future also
+     * interrupts the worker if the task is still running.
+     */
+    public static <T> CompletableFuture<T> supplyAsync(Callable<T> task) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        Future<?> running = EXECUTOR.submit(() -> {
+            try {
+                result.complete(task.call());
+            } catch (Throwable t) {
+                result.completeExceptionally(t);
+            }
+        });
+        result.whenComplete((value, error) -> {
+            if (result.isCancelled()) {
+                running.cancel(true);
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Delivers the outcome of a future on the EDT. Nothing is delivered if the
+     * future was cancelled.
+     */
+    public static <T> void onEdt(CompletableFuture<T> future, Consumer<? super T> onSuccess, Consumer<Throwable> onFailure) {
+        future.whenComplete((value, error) -> {
+            if (future.isCancelled()) {
+                return;
+            }
+            SwingUtilities.invokeLater(() -> {
+                long start = System.nanoTime();
+                try {
+                    if (error == null) {
+                        onSuccess.accept(value);
+                    } else {
+                        onFailure.accept(unwrap(error));
+                    }
+                } finally {
+                    Metrics.recordSince(EDT_CALLBACK_TIME, start);
+                }
+            });
+        });
+    }
+
+    /** Strips the CompletionException/ExecutionException wrappers added by the future. */
+    public static Throwable unwrap(Throwable error) {
+        while ((error instanceof CompletionException || error instanceof ExecutionException) && error.getCause() != null) {
+            error = error.getCause();
+        }
+        return error;
+    }
+
+    /**
+     * Keeps only the most recent request for one view (e.g. the turf list).
+     * Submitting a new request cancels the previous one, and late results from
+     * superseded requests are dropped instead of overwriting newer data.
+     * Must be used from the EDT.
+     */
+    public static final class LatestRequest<T> {
+        private CompletableFuture<T> current;
+        private long generation = 0;
+
+        public CompletableFuture<T> submit(Supplier<CompletableFuture<T>> request, Consumer<? super T> onSuccess, Consumer<Throwable> onFailure) {
+            cancel();
+            long myGeneration = ++generation;
+            CompletableFuture<T> future = request.get();
+            current = future;
+            onEdt(future,
+                value -> {
+                    if (myGeneration == generation) {
+                        current = null;
+                        onSuccess.accept(value);
+                    }
+                },
+                error -> {
+                    if (myGeneration == generation && !(error instanceof CancellationException)) {
+                        current = null;
+                        onFailure.accept(error);
+                    }
+                });
+            return future;
+        }
+
+        /** Cancels the in-flight request, if any. */
+        public void cancel() {
+            if (current != null) {
+                current.cancel(true);
+                current = null;
+            }
+            generation++;
+        }
+
+        public boolean isPending() {
+            return current != null && !current.isDone();
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package turf;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Login and signup against the users table.
+ * Users are looked up by username only (unique index) and the password is verified in
+ * Java against a salted PBKDF2 hash; plaintext passwords are never sent in a WHERE clause.
+ * Legacy plaintext rows are upgraded to a hash on their next successful login.
+ */
+public class AuthService {
+
+    private static final String SELECT_USER_SQL = "SELECT password, role FROM users WHERE username = ?";
+    private static final String INSERT_USER_SQL = "INSERT INTO users(username, email, password, role) VALUES (?, ?, ?, ?)";
+    private static final String UPDATE_PASSWORD_SQL = "UPDATE users SET password = ? WHERE username = ? AND password = ?";
+
+    // Verified against for unknown usernames so they take as long as wrong passwords
+    private static final String DUMMY_HASH = PasswordHasher.hash("dummy-password".toCharArray());
+
+    private static final LatencyHistogram LOGIN_TIME = Metrics.histogram("auth.login");
+    private static final LongAdder LOGIN_CACHE_HITS = Metrics.counter("cache.login.hits");
+    private static final LongAdder LOGIN_CACHE_MISSES = Metrics.counter("cache.login.misses");
+
+    private static final VerifiedCredentialCache RECENT_LOGINS = new VerifiedCredentialCache(
+        Integer.getInteger("turf.auth.cacheSize", 1024),
+        Long.getLong("turf.auth.cacheTtlMs", 5 * 60_000L));
+
+    /**
+     * Returns the user's role if the credentials are valid, otherwise null. Blocking.
+     */
+    public static String authenticate(String username, String password) throws SQLException {
+        long start = System.nanoTime();
+        try {
+            return verify(username, password);
+        } finally {
+            Metrics.recordSince(LOGIN_TIME, start);
+        }
+    }
+
+    private static String verify(String username, String password) throws SQLException {
+        String storedHash;
+        String role;
+        try (Connection conn = DBConnection.getConnection();
+             PreparedStatement pst = conn.prepareStatement(SELECT_USER_SQL)) {
+            pst.setString(1, username);
+            try (ResultSet rs = pst.executeQuery()) {
+                if (!rs.next()) {
+                    PasswordHasher.verify(password.toCharArray(), DUMMY_HASH);
+                    return null;
+                }
+                storedHash = rs.getString("password");
+                role = rs.getString("role");
+            }
+        }
+
+        char[] candidate = password.toCharArray();
+        try {
+            if (RECENT_LOGINS.isVerified(username, storedHash, candidate)) {
+                LOGIN_CACHE_HITS.increment();
+                return role;
+            }
+            LOGIN_CACHE_MISSES.increment();
+            if (!PasswordHasher.verify(candidate, storedHash)) {
+                return null;
+            }
+            if (PasswordHasher.needsRehash(storedHash)) {
+                storedHash = upgradeHash(username, storedHash, candidate);
+            }
+            RECENT_LOGINS.recordSuccess(username, storedHash, candidate);
+            return role;
+        } finally {
+            PasswordHasher.clear(candidate);
+        }
+    }
+
+    /**
+     * Creates a user with a hashed password. Blocking.
+     * @throws java.sql.SQLIntegrityConstraintViolationException if the username is taken.
+     */
+    public static void register(String username, String email, String password, String role) throws SQLException {
+        char[] secret = password.toCharArray();
+        String hash = PasswordHasher.hash(secret);
+        PasswordHasher.clear(secret);
+        try (Connection conn = DBConnection.getConnection();
+             PreparedStatement pst = conn.prepareStatement(INSERT_USER_SQL)) {
+            pst.setString(1, username);
+            pst.setString(2, email);
+            pst.setString(3, hash);
+            pst.setString(4, role);
+            pst.executeUpdate();
+        }
+    }
+
+    /** Re-hashes at the current cost; the stored-value check guards against a concurrent change. */
+    private static String upgradeHash(String username, String oldValue, char[] password) throws SQLException {
+        String newHash = PasswordHasher.hash(password);
+        try (Connection conn = DBConnection.getConnection();
+             PreparedStatement pst = conn.prepareStatement(UPDATE_PASSWORD_SQL)) {
+            pst.setString(1, newHash);
+            pst.setString(2, username);
+            pst.setString(3, oldValue);
+            return pst.executeUpdate() == 1 ? newHash : oldValue;
+        }
+    }
+}
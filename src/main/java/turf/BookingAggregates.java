@@ -0,0 +1,140 @@
+package turf;
+
+import java.util.Arrays;
+
+/**
+ * Per-turf booking count and income, updated incrementally as bookings are appended.
+ * Turf ids are mapped to dense slots through an open-addressing hash table, and the
+ * aggregates live in parallel int[]/double[] arrays, so lookups and updates are O(1)
+ * with no boxing.
+ */
+public class BookingAggregates {
+
+    private static final int EMPTY = -1;
+
+    // Open-addressing table: hash slot -> dense index (or EMPTY)
+    private int[] table;
+    // Dense storage, indexed by the value held in table
+    private String[] turfIds;
+    private int[] counts;
+    private double[] incomes;
+    private int size = 0;
+
+    private long totalBookings = 0;
+    private double totalIncome = 0.0;
+
+    public BookingAggregates() {
+        this(16);
+    }
+
+    public BookingAggregates(int expectedTurfs) {
+        int capacity = Integer.highestOneBit(Math.max(4, expectedTurfs) * 2 - 1) << 1;
+        table = new int[capacity];
+        Arrays.fill(table, EMPTY);
+        turfIds = new String[Math.max(4, expectedTurfs)];
+        counts = new int[turfIds.length];
+        incomes = new double[turfIds.length];
+    }
+
+    // --- Updates ---
+
+    /** Adds one booking to the turf's running totals. */
+    public synchronized void record(String turfId, double totalCost) {
+        int index = indexFor(turfId, true);
+        counts[index]++;
+        incomes[index] += totalCost;
+        totalBookings++;
+        totalIncome += totalCost;
+    }
+
+    /** Adds pre-aggregated totals (e.g. a SQL GROUP BY row) to the turf's running totals. */
+    public synchronized void add(String turfId, int bookingCount, double income) {
+        int index = indexFor(turfId, true);
+        counts[index] += bookingCount;
+        incomes[index] += income;
+        totalBookings += bookingCount;
+        totalIncome += income;
+    }
+
+    /** Drops every aggregate. */
+    public synchronized void clear() {
+        Arrays.fill(table, EMPTY);
+        Arrays.fill(turfIds, 0, size, null);
+        Arrays.fill(counts, 0, size, 0);
+        Arrays.fill(incomes, 0, size, 0.0);
+        size = 0;
+        totalBookings = 0;
+        totalIncome = 0.0;
+    }
+
+    // --- Queries (constant time) ---
+
+    public synchronized int bookings(String turfId) {
+        int index = indexFor(turfId, false);
+        return index == EMPTY ? 0 : counts[index];
+    }
+
+    public synchronized double income(String turfId) {
+        int index = indexFor(turfId, false);
+        return index == EMPTY ? 0.0 : incomes[index];
+    }
+
+    public synchronized long totalBookings() { return totalBookings; }
+    public synchronized double totalIncome() { return totalIncome; }
+    public synchronized int turfCount() { return size; }
+
+    // --- Hash table internals ---
+
+    /** Finds the dense index for turfId, optionally inserting it. Returns EMPTY if absent. */
+    private int indexFor(String turfId, boolean insert) {
+        int mask = table.length - 1;
+        int slot = spread(turfId.hashCode()) & mask;
+        while (true) {
+            int index = table[slot];
+            if (index == EMPTY) {
+                if (!insert) {
+                    return EMPTY;
+                }
+                return insertAt(slot, turfId);
+            }
+            if (turfIds[index].equals(turfId)) {
+                return index;
+            }
+            slot = (slot + 1) & mask;
+        }
+    }
+
+    private int insertAt(int slot, String turfId) {
+        if (size == turfIds.length) {
+            int newLength = turfIds.length * 2;
+            turfIds = Arrays.copyOf(turfIds, newLength);
+            counts = Arrays.copyOf(counts, newLength);
+            incomes = Arrays.copyOf(incomes, newLength);
+        }
+        int index = size++;
+        turfIds[index] = turfId;
+        table[slot] = index;
+        // Keep the load factor at or below 0.5
+        if (size * 2 > table.length) {
+            rehash(table.length * 2);
+        }
+        return index;
+    }
+
+    private void rehash(int newCapacity) {
+        table = new int[newCapacity];
+        Arrays.fill(table, EMPTY);
+        int mask = newCapacity - 1;
+        for (int index = 0; index < size; index++) {
+            int slot = spread(turfIds[index].hashCode()) & mask;
+            while (table[slot] != EMPTY) {
+                slot = (slot + 1) & mask;
+            }
+            table[slot] = index;
+        }
+    }
+
+    private static int spread(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+}
@@ -0,0 +1,263 @@
+package turf;
+
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLIntegrityConstraintViolationException;
+import java.sql.SQLRecoverableException;
+import java.sql.SQLTransientException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Persists customer bookings. Double-booking is prevented by the database itself:
+ * bookings has a UNIQUE (turf_id, booking_date, slot_hour) constraint, so when two
+ * customers confirm the same slot at once exactly one INSERT succeeds and the other
+ * gets SLOT_TAKEN. Transient failures (deadlocks, lock timeouts, dropped connections)
+ * are retried a bounded number of times.
+ */
+public class BookingService {
+
+    private static final String INSERT_BOOKING_SQL =
+        "INSERT INTO bookings(turf_id, username, booking_date, slot_hour, total_cost) VALUES (?, ?, ?, ?, ?)";
+
+    // Served by the uq_bookings_slot (turf_id, booking_date, slot_hour) index
+    private static final String SELECT_BOOKED_SLOTS_SQL =
+        "SELECT slot_hour FROM bookings WHERE turf_id = ? AND booking_date = ?";
+
+    // Booked slots of a set of turfs over a date range; the turf_id IN list is appended per chunk
+    private static final String SELECT_BOOKED_RANGE_SQL =
+        "SELECT turf_id, booking_date, slot_hour FROM bookings WHERE booking_date >= ? AND booking_date < ? AND turf_id IN (";
+    private static final int TURFS_PER_QUERY = 500;
+
+    // After a lost connection: did our own insert commit after all?
+    private static final String SELECT_OWN_BOOKING_SQL =
+        "SELECT id FROM bookings WHERE turf_id = ? AND booking_date = ? AND slot_hour = ? AND username = ?";
+
+    private static final int MAX_ATTEMPTS = Integer.getInteger("turf.booking.maxAttempts", 3);
+    private static final LatencyHistogram COMMIT_TIME = Metrics.histogram("booking.commit");
+    private static final LongAdder SLOTS_TAKEN = Metrics.counter("booking.slotTaken");
+    private static final long RETRY_BACKOFF_MS = 25;
+
+    /** Outcome of a booking attempt. */
+    enum Outcome { CONFIRMED, SLOT_TAKEN }
+
+    static class BookingResult {
+        public final Outcome outcome;
+        public final long bookingId; // -1 unless CONFIRMED
+        public final int attempts;
+
+        BookingResult(Outcome outcome, long bookingId, int attempts) {
+            this.outcome = outcome;
+            this.bookingId = bookingId;
+            this.attempts = attempts;
+        }
+
+        public boolean isConfirmed() { return outcome == Outcome.CONFIRMED; }
+    }
+
+    /**
+     * Loads the turf's slots already booked on the date (by any client, import or earlier run)
+     * into SlotAvailability and returns them as a mask. Reads the primary, so a booking
+     * committed elsewhere a moment ago is not offered as free. The turf must be registered
+     * with SlotAvailability. Blocking.
+     */
+    public static int loadBookedSlots(int turfId, LocalDate date) throws SQLException {
+        int booked = 0;
+        try (Connection conn = DBConnection.getConnection();
+             PreparedStatement pst = conn.prepareStatement(SELECT_BOOKED_SLOTS_SQL)) {
+            pst.setInt(1, turfId);
+            pst.setDate(2, Date.valueOf(date));
+            try (ResultSet rs = pst.executeQuery()) {
+                while (rs.next()) {
+                    int hour = rs.getInt(1);
+                    if (hour >= 0 && hour < SlotAvailability.SLOTS_PER_DAY) {
+                        booked |= 1 << hour;
+                        SlotAvailability.shared().markBooked(turfId, date, hour);
+                    }
+                }
+            }
+        }
+        return booked;
+    }
+
+    /**
+     * Loads every slot booked on the days from start for the turfs into SlotAvailability, so
+     * PricingEngine's demand factor counts bookings from every client and instance. Used
+     * before pricing a week grid; one query per TURFS_PER_QUERY turfs. Reads go to a replica
+     * when one is configured, since demand pricing tolerates a little lag. The turfs must be
+     * registered with SlotAvailability. Blocking.
+     */
+    public static void loadBookedSlots(int[] turfIds, LocalDate start, int days) throws SQLException {
+        LocalDate end = start.plusDays(days);
+        for (int from = 0; from < turfIds.length; from += TURFS_PER_QUERY) {
+            int to = Math.min(turfIds.length, from + TURFS_PER_QUERY);
+            StringBuilder sql = new StringBuilder(SELECT_BOOKED_RANGE_SQL);
+            for (int i = from; i < to; i++) {
+                sql.append(i == from ? "?" : ", ?");
+            }
+            sql.append(')');
+            try (Connection conn = DBConnection.getReadConnection(null);
+                 PreparedStatement pst = conn.prepareStatement(sql.toString())) {
+                pst.setDate(1, Date.valueOf(start));
+                pst.setDate(2, Date.valueOf(end));
+                for (int i = from; i < to; i++) {
+                    pst.setInt(3 + i - from, turfIds[i]);
+                }
+                try (ResultSet rs = pst.executeQuery()) {
+                    while (rs.next()) {
+                        int hour = rs.getInt(3);
+                        if (hour >= 0 && hour < SlotAvailability.SLOTS_PER_DAY) {
+                            SlotAvailability.shared().markBooked(rs.getInt(1), rs.getDate(2).toLocalDate(), hour);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    /** Books the slot for the user logged in to this desktop session, off the caller's thread. */
+    public static CompletableFuture<BookingResult> commitBookingAsync(int turfId, LocalDate date, int slotHour, double totalCost) {
+        String username = SessionManager.getCurrentUser();
+        return AsyncDataAccess.supplyAsync(() -> commitBooking(turfId, username, date, slotHour, totalCost));
+    }
+
+    /**
+     * Inserts the booking in its own transaction. Returns SLOT_TAKEN if another booking
+     * already holds (turf, date, slot). Blocking.
+     * @throws SQLException if the insert still fails after MAX_ATTEMPTS transient errors, or fails permanently.
+     */
+    public static BookingResult commitBooking(int turfId, String username, LocalDate date, int slotHour, double totalCost) throws SQLException {
+        long start = System.nanoTime();
+        try {
+            return commitWithRetry(turfId, username, date, slotHour, totalCost);
+        } finally {
+            Metrics.recordSince(COMMIT_TIME, start);
+        }
+    }
+
+    /**
+     * A connection lost during commit() leaves the outcome unknown: the row may already be
+     * in. So after such a failure, each retry first looks for this user's own booking of the
+     * slot and reports it as CONFIRMED instead of inserting again (and seeing SLOT_TAKEN).
+     */
+    private static BookingResult commitWithRetry(int turfId, String username, LocalDate date, int slotHour, double totalCost) throws SQLException {
+        boolean mayHaveCommitted = false;
+        for (int attempt = 1; ; attempt++) {
+            try {
+                if (mayHaveCommitted) {
+                    long ownBookingId = findOwnBooking(turfId, username, date, slotHour);
+                    if (ownBookingId >= 0) {
+                        DBConnection.recordWrite(username);
+                        return new BookingResult(Outcome.CONFIRMED, ownBookingId, attempt);
+                    }
+                }
+                long bookingId = insertBooking(turfId, username, date, slotHour, totalCost);
+                return new BookingResult(Outcome.CONFIRMED, bookingId, attempt);
+            } catch (SQLException e) {
+                if (isDuplicateKey(e)) {
+                    SLOTS_TAKEN.increment();
+                    return new BookingResult(Outcome.SLOT_TAKEN, -1, attempt);
+                }
+                if (!isTransient(e) || attempt >= MAX_ATTEMPTS) {
+                    throw e;
+                }
+                if (isConnectionLoss(e)) {
+                    if (username == null) {
+                        throw e; // an anonymous booking cannot be told apart from someone else's
+                    }
+                    mayHaveCommitted = true;
+                }
+                backOff(attempt);
+            }
+        }
+    }
+
+    private static long insertBooking(int turfId, String username, LocalDate date, int slotHour, double totalCost) throws SQLException {
+        try (Connection conn = DBConnection.getConnection()) {
+            conn.setAutoCommit(false);
+            try (PreparedStatement pst = conn.prepareStatement(INSERT_BOOKING_SQL, Statement.RETURN_GENERATED_KEYS)) {
+                pst.setInt(1, turfId);
+                pst.setString(2, username);
+                pst.setDate(3, Date.valueOf(date));
+                pst.setInt(4, slotHour);
+                pst.setDouble(5, totalCost);
+                pst.executeUpdate();
+                long bookingId = -1;
+                try (ResultSet keys = pst.getGeneratedKeys()) {
+                    if (keys.next()) {
+                        bookingId = keys.getLong(1);
+                    }
+                }
+                conn.commit();
+                DBConnection.recordWrite(username);
+                return bookingId;
+            } catch (SQLException e) {
+                try {
+                    conn.rollback();
+                } catch (SQLException rollbackError) {
+                    e.addSuppressed(rollbackError);
+                }
+                throw e;
+            }
+        }
+    }
+
+    /** The id of username's booking of the slot, or -1 if there is none. Reads the primary. */
+    private static long findOwnBooking(int turfId, String username, LocalDate date, int slotHour) throws SQLException {
+        try (Connection conn = DBConnection.getConnection();
+             PreparedStatement pst = conn.prepareStatement(SELECT_OWN_BOOKING_SQL)) {
+            pst.setInt(1, turfId);
+            pst.setDate(2, Date.valueOf(date));
+            pst.setInt(3, slotHour);
+            pst.setString(4, username);
+            try (ResultSet rs = pst.executeQuery()) {
+                return rs.next() ? rs.getLong(1) : -1;
+            }
+        }
+    }
+
+    /**
+     * Unique-key violation: MySQL error 1062, or SQLState 23505 (H2, Derby, PostgreSQL).
+     * Other integrity errors, such as an unknown turf_id, are not treated as a taken slot.
+     */
+    static boolean isDuplicateKey(SQLException e) {
+        return e.getErrorCode() == 1062 || "23505".equals(e.getSQLState());
+    }
+
+    /** Any integrity-constraint violation (SQLState class 23): duplicate key, foreign key, NOT NULL, ... */
+    static boolean isConstraintViolation(SQLException e) {
+        String state = e.getSQLState();
+        return e instanceof SQLIntegrityConstraintViolationException || (state != null && state.startsWith("23"));
+    }
+
+    /** Deadlock/serialization failure (40xxx), lock wait timeout, or a lost connection (08xxx). */
+    static boolean isTransient(SQLException e) {
+        if (e instanceof SQLTransientException || e instanceof SQLRecoverableException) {
+            return true;
+        }
+        String state = e.getSQLState();
+        return state != null && (state.startsWith("40") || state.startsWith("08"));
+    }
+
+    /** A dropped connection (08xxx): unlike a deadlock, the statement or commit may have taken effect. */
+    static boolean isConnectionLoss(SQLException e) {
+        String state = e.getSQLState();
+        return e instanceof SQLRecoverableException || (state != null && state.startsWith("08"));
+    }
+
+    private static void backOff(int attempt) throws SQLException {
+        long delay = RETRY_BACKOFF_MS * attempt + ThreadLocalRandom.current().nextLong(RETRY_BACKOFF_MS);
+        try {
+            Thread.sleep(delay);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("Interrupted while retrying booking.", e);
+        }
+    }
+}
@@ -0,0 +1,422 @@
+package turf;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.sql.BatchUpdateException;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Bulk CSV import of an owner's turfs and historical bookings, for owners migrating
+ * from another system. The file is streamed line by line and each row is validated;
+ * valid rows are written with JDBC batch inserts, one transaction per chunk
+ * (turf.import.chunkSize rows, default 1000). Invalid rows are skipped and reported.
+ * If a chunk hits a constraint violation (e.g. two bookings for the same slot), that
+ * chunk is rolled back and replayed row by row so only the offending rows are dropped.
+ *
+ * The kind of file is detected from its header row:
+ *   turfs:    name,address,hourly_rate[,operating_hours][,category]
+ *   bookings: turf_id,booking_date,slot_hour,total_cost[,username]   (turf_id must be one of the owner's turfs)
+ *
+ * Run: java -cp target/classes:mysql-connector.jar turf.BulkImporter ownerUsername file.csv
+ */
+public class BulkImporter {
+
+    public static final int DEFAULT_CHUNK_SIZE = Integer.getInteger("turf.import.chunkSize", 1000);
+    private static final int MAX_REPORTED_ERRORS = 20;
+
+    private static final String INSERT_TURF_SQL =
+        "INSERT INTO turfs(owner_username, name, address, hourly_rate, operating_hours, category) VALUES (?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_BOOKING_SQL =
+        "INSERT INTO bookings(turf_id, username, booking_date, slot_hour, total_cost) VALUES (?, ?, ?, ?, ?)";
+    private static final String SELECT_OWNER_TURF_IDS_SQL = "SELECT id FROM turfs WHERE owner_username = ?";
+
+    enum Kind { TURFS, BOOKINGS }
+
+    /** Counts and timing for one import. */
+    static class ImportResult {
+        public final Kind kind;
+        public final long rowsRead;
+        public final long rowsImported;
+        public final long rowsRejected;
+        public final int chunks;
+        public final long elapsedNanos;
+        public final List<String> errors; // the first few problems, "line N: reason"
+
+        ImportResult(Kind kind, long rowsRead, long rowsImported, long rowsRejected, int chunks, long elapsedNanos, List<String> errors) {
+            this.kind = kind;
+            this.rowsRead = rowsRead;
+            this.rowsImported = rowsImported;
+            this.rowsRejected = rowsRejected;
+            this.chunks = chunks;
+            this.elapsedNanos = elapsedNanos;
+            this.errors = errors;
+        }
+
+        public double rowsPerSecond() {
+            return elapsedNanos == 0 ? 0.0 : rowsImported / (elapsedNanos / 1e9);
+        }
+
+        @Override
+        public String toString() {
+            return String.format("Imported %,d of %,d %s rows (%,d rejected) in %,d chunks, %.2f s, %,.0f rows/s",
+                rowsImported, rowsRead, kind.name().toLowerCase(Locale.ROOT), rowsRejected, chunks,
+                elapsedNanos / 1e9, rowsPerSecond());
+        }
+    }
+
+    /** Binds one validated row to the insert statement. */
+    private interface RowBinder {
+        void bind(PreparedStatement pst) throws SQLException;
+    }
+
+    /** Turns a CSV row into a binder, or throws IllegalArgumentException describing why it is invalid. */
+    private interface RowParser {
+        RowBinder parse(List<String> fields);
+    }
+
+    private final String ownerUsername;
+    private final int chunkSize;
+
+    private long rowsRead;
+    private long rowsImported;
+    private long rowsRejected;
+    private int chunks;
+    private final List<String> errors = new ArrayList<>();
+
+    public BulkImporter(String ownerUsername, int chunkSize) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("chunkSize must be positive: " + chunkSize);
+        }
+        this.ownerUsername = ownerUsername;
+        this.chunkSize = chunkSize;
+    }
+
+    public static void main(String[] args) throws IOException, SQLException {
+        if (args.length < 2) {
+            System.err.println("Usage: java BulkImporter ownerUsername file.csv");
+            System.exit(2);
+        }
+        ImportResult result = new BulkImporter(args[0], DEFAULT_CHUNK_SIZE).importFile(Paths.get(args[1]));
+        System.out.println("✅ " + result);
+        for (String error : result.errors) {
+            System.out.println("   " + error);
+        }
+        System.exit(0);
+    }
+
+    /**
+     * Imports a turfs or bookings CSV for the owner. Blocking; run it off the EDT.
+     * @throws IllegalArgumentException if the header is not one of the supported layouts.
+     */
+    public ImportResult importFile(Path file) throws IOException, SQLException {
+        long start = System.nanoTime();
+        rowsRead = rowsImported = rowsRejected = 0;
+        chunks = 0;
+        errors.clear();
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String headerLine = reader.readLine();
+            if (headerLine == null) {
+                throw new IllegalArgumentException("The file is empty.");
+            }
+            Map<String, Integer> header = indexHeader(parseCsvLine(stripBom(headerLine)));
+            Kind kind;
+            if (header.containsKey("slot_hour")) {
+                kind = Kind.BOOKINGS;
+                importBookings(reader, header);
+            } else if (header.containsKey("name") && header.containsKey("hourly_rate")) {
+                kind = Kind.TURFS;
+                importTurfs(reader, header);
+            } else {
+                throw new IllegalArgumentException("Unrecognised header: " + headerLine
+                    + " (expected turf columns name,address,hourly_rate or booking columns turf_id,booking_date,slot_hour,total_cost)");
+            }
+            return new ImportResult(kind, rowsRead, rowsImported, rowsRejected, chunks, System.nanoTime() - start, new ArrayList<>(errors));
+        }
+    }
+
+    // --- Row validation ---
+
+    private void importTurfs(BufferedReader reader, Map<String, Integer> header) throws IOException, SQLException {
+        int name = required(header, "name");
+        int address = required(header, "address");
+        int rate = required(header, "hourly_rate");
+        Integer hours = header.get("operating_hours");
+        Integer category = header.get("category");
+
+        importRows(reader, INSERT_TURF_SQL, fields -> {
+            String turfName = checkLength(field(fields, name), "name", 128, true);
+            String turfAddress = checkLength(field(fields, address), "address", 255, true);
+            double hourlyRate = parsePositive(field(fields, rate), "hourly_rate");
+            String operatingHours = checkLength(hours == null ? null : field(fields, hours), "operating_hours", 32, false);
+            String turfCategory = checkLength(category == null ? null : field(fields, category), "category", 32, false);
+            String resolvedCategory = turfCategory == null ? TurfService.DEFAULT_CATEGORY : turfCategory;
+            return pst -> {
+                pst.setString(1, ownerUsername);
+                pst.setString(2, turfName);
+                pst.setString(3, turfAddress);
+                pst.setDouble(4, hourlyRate);
+                pst.setString(5, operatingHours);
+                pst.setString(6, resolvedCategory);
+            };
+        });
+    }
+
+    private void importBookings(BufferedReader reader, Map<String, Integer> header) throws IOException, SQLException {
+        int turfId = required(header, "turf_id");
+        int date = required(header, "booking_date");
+        int slot = required(header, "slot_hour");
+        int cost = required(header, "total_cost");
+        Integer username = header.get("username");
+        Set<Integer> ownedTurfs = loadOwnedTurfIds();
+
+        importRows(reader, INSERT_BOOKING_SQL, fields -> {
+            int id = parseInt(field(fields, turfId), "turf_id");
+            if (!ownedTurfs.contains(id)) {
+                throw new IllegalArgumentException("turf_id " + id + " is not one of your turfs");
+            }
+            LocalDate bookingDate;
+            try {
+                bookingDate = LocalDate.parse(field(fields, date));
+            } catch (DateTimeParseException e) {
+                throw new IllegalArgumentException("booking_date must be YYYY-MM-DD");
+            }
+            int slotHour = parseInt(field(fields, slot), "slot_hour");
+            if (slotHour < 0 || slotHour >= SlotAvailability.SLOTS_PER_DAY) {
+                throw new IllegalArgumentException("slot_hour must be between 0 and 23");
+            }
+            double totalCost = parseNonNegative(field(fields, cost), "total_cost");
+            String customer = checkLength(username == null ? null : field(fields, username), "username", 64, false);
+            return pst -> {
+                pst.setInt(1, id);
+                if (customer == null) {
+                    pst.setNull(2, Types.VARCHAR);
+                } else {
+                    pst.setString(2, customer);
+                }
+                pst.setDate(3, Date.valueOf(bookingDate));
+                pst.setInt(4, slotHour);
+                pst.setDouble(5, totalCost);
+            };
+        });
+    }
+
+    private Set<Integer> loadOwnedTurfIds() throws SQLException {
+        Set<Integer> ids = new HashSet<>();
+        try (Connection conn = DBConnection.getConnection();
+             PreparedStatement pst = conn.prepareStatement(SELECT_OWNER_TURF_IDS_SQL)) {
+            pst.setString(1, ownerUsername);
+            try (ResultSet rs = pst.executeQuery()) {
+                while (rs.next()) {
+                    ids.add(rs.getInt(1));
+                }
+            }
+        }
+        return ids;
+    }
+
+    // --- Chunked batch writes ---
+
+    /** Streams the remaining lines, validating each and writing valid rows chunk by chunk. */
+    private void importRows(BufferedReader reader, String sql, RowParser parser) throws IOException, SQLException {
+        List<RowBinder> chunk = new ArrayList<>(chunkSize);
+        List<Long> chunkLines = new ArrayList<>(chunkSize);
+        long lineNumber = 1;
+        try (Connection conn = DBConnection.getConnection();
+             PreparedStatement pst = conn.prepareStatement(sql)) {
+            conn.setAutoCommit(false);
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.trim().isEmpty()) {
+                    continue;
+                }
+                rowsRead++;
+                try {
+                    chunk.add(parser.parse(parseCsvLine(line)));
+                    chunkLines.add(lineNumber);
+                } catch (IllegalArgumentException e) {
+                    reject(lineNumber, e.getMessage());
+                }
+                if (chunk.size() == chunkSize) {
+                    writeChunk(conn, pst, chunk, chunkLines);
+                }
+            }
+            if (!chunk.isEmpty()) {
+                writeChunk(conn, pst, chunk, chunkLines);
+            }
+        }
+    }
+
+    private void writeChunk(Connection conn, PreparedStatement pst, List<RowBinder> chunk, List<Long> lines) throws SQLException {
+        try {
+            for (RowBinder row : chunk) {
+                row.bind(pst);
+                pst.addBatch();
+            }
+            pst.executeBatch();
+            conn.commit();
+            rowsImported += chunk.size();
+        } catch (BatchUpdateException e) {
+            conn.rollback();
+            pst.clearBatch();
+            if (!BookingService.isConstraintViolation(e)) {
+                throw e;
+            }
+            writeRowByRow(conn, pst, chunk, lines);
+        }
+        chunks++;
+        chunk.clear();
+        lines.clear();
+        DBConnection.recordWrite(ownerUsername); // the dashboard reloads from the primary, not a lagging replica
+    }
+
+    /** Replays a rolled-back chunk one row at a time, rejecting only the rows that violate a constraint. */
+    private void writeRowByRow(Connection conn, PreparedStatement pst, List<RowBinder> chunk, List<Long> lines) throws SQLException {
+        for (int i = 0; i < chunk.size(); i++) {
+            try {
+                chunk.get(i).bind(pst);
+                pst.executeUpdate();
+                conn.commit();
+                rowsImported++;
+            } catch (SQLException e) {
+                conn.rollback();
+                if (!BookingService.isConstraintViolation(e)) {
+                    throw e;
+                }
+                reject(lines.get(i), BookingService.isDuplicateKey(e) ? "duplicate of an existing row (e.g. slot already booked)" : e.getMessage());
+            }
+        }
+    }
+
+    private void reject(long lineNumber, String reason) {
+        rowsRejected++;
+        if (errors.size() < MAX_REPORTED_ERRORS) {
+            errors.add("line " + lineNumber + ": " + reason);
+        }
+    }
+
+    // --- CSV parsing ---
+
+    /**
+     * Splits one CSV line (RFC 4180 quoting: "a, b" and "" for a literal quote).
+     * Quoted fields may not span lines.
+     */
+    static List<String> parseCsvLine(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString().trim());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        if (quoted) {
+            throw new IllegalArgumentException("unterminated quoted field");
+        }
+        fields.add(field.toString().trim());
+        return fields;
+    }
+
+    private static Map<String, Integer> indexHeader(List<String> columns) {
+        Map<String, Integer> index = new HashMap<>();
+        for (int i = 0; i < columns.size(); i++) {
+            index.putIfAbsent(columns.get(i).toLowerCase(Locale.ROOT), i);
+        }
+        return index;
+    }
+
+    private static String stripBom(String line) {
+        return line.startsWith("\uFEFF") ? line.substring(1) : line;
+    }
+
+    private static int required(Map<String, Integer> header, String column) {
+        Integer index = header.get(column);
+        if (index == null) {
+            throw new IllegalArgumentException("Missing column: " + column);
+        }
+        return index;
+    }
+
+    private static String field(List<String> fields, int index) {
+        if (index >= fields.size()) {
+            return null;
+        }
+        String value = fields.get(index);
+        return value.isEmpty() ? null : value;
+    }
+
+    private static String checkLength(String value, String column, int maxLength, boolean required) {
+        if (value == null) {
+            if (required) {
+                throw new IllegalArgumentException(column + " is required");
+            }
+            return null;
+        }
+        if (value.length() > maxLength) {
+            throw new IllegalArgumentException(column + " is longer than " + maxLength + " characters");
+        }
+        return value;
+    }
+
+    private static int parseInt(String value, String column) {
+        try {
+            return Integer.parseInt(checkLength(value, column, 11, true));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(column + " must be a whole number");
+        }
+    }
+
+    private static double parseNonNegative(String value, String column) {
+        double number;
+        try {
+            number = Double.parseDouble(checkLength(value, column, 20, true));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(column + " must be a number");
+        }
+        if (!(number >= 0) || Double.isInfinite(number)) {
+            throw new IllegalArgumentException(column + " must not be negative");
+        }
+        return number;
+    }
+
+    private static double parsePositive(String value, String column) {
+        double number = parseNonNegative(value, column);
+        if (number == 0) {
+            throw new IllegalArgumentException(column + " must be greater than zero");
+        }
+        return number;
+    }
+}
@@ -0,0 +1,369 @@
+package turf;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounded JDBC connection pool behind DBConnection.
+ * Physical connections are opened lazily up to maxSize, validated before they are
+ * reused after sitting idle, and handed out as proxies whose close() returns them
+ * to the pool instead of closing the socket. Works with any JDBC URL (MySQL, H2, Derby).
+ * Prepared statements are wrapped too, so every execution is timed into a per-SQL
+ * LatencyHistogram (see statementTimings()), shared with Metrics as "sql <statement>".
+ */
+public class ConnectionPool {
+
+    // --- Shared pools (one per URL + user) ---
+    private static final Map<String, ConnectionPool> SHARED = new ConcurrentHashMap<>();
+
+    private static final int DEFAULT_MAX_SIZE = Integer.getInteger("turf.db.pool.maxSize", 10);
+    private static final long DEFAULT_MAX_WAIT_MS = Long.getLong("turf.db.pool.maxWaitMs", 5000L);
+    private static final long DEFAULT_IDLE_VALIDATION_MS = Long.getLong("turf.db.pool.idleValidationMs", 30_000L);
+    private static final int VALIDATION_TIMEOUT_SECONDS = 2;
+    private static final boolean TIME_STATEMENTS = Boolean.parseBoolean(System.getProperty("turf.db.sqlTiming", "true"));
+    private static final LatencyHistogram ACQUIRE_TIME = Metrics.histogram("db.pool.acquire");
+    private static final LongAdder ACQUIRE_TIMEOUTS = Metrics.counter("db.pool.timeouts");
+
+    /** Returns the process-wide pool for this URL/user, creating it on first use. */
+    public static ConnectionPool shared(String url, String user, String password) {
+        return SHARED.computeIfAbsent(url + "|" + user,
+            key -> new ConnectionPool(url, user, password, DEFAULT_MAX_SIZE, DEFAULT_MAX_WAIT_MS, DEFAULT_IDLE_VALIDATION_MS));
+    }
+
+    // --- Configuration ---
+    private final String url;
+    private final String user;
+    private final String password;
+    private final int maxSize;
+    private final long maxWaitMillis;
+    private final long idleValidationMillis;
+
+    // --- State ---
+    private final Semaphore permits;
+    private final LinkedBlockingDeque<PooledEntry> idle = new LinkedBlockingDeque<>();
+    private final AtomicInteger activeCount = new AtomicInteger();
+    private final AtomicInteger openCount = new AtomicInteger();
+    private volatile boolean closed = false;
+
+    // --- Counters ---
+    private final LongAdder acquireCount = new LongAdder();
+    private final LongAdder waitNanos = new LongAdder();
+    private final LongAdder timeoutCount = new LongAdder();
+    private final LongAdder createdCount = new LongAdder();
+    private final LongAdder discardedCount = new LongAdder();
+    private final ConcurrentHashMap<String, LatencyHistogram> statementTimings = new ConcurrentHashMap<>();
+
+    /**
+     * @param maxSize maximum number of physical connections (active + idle).
+     * @param maxWaitMillis how long getConnection() waits for a free slot before failing.
+     * @param idleValidationMillis idle connections older than this are checked with isValid() before reuse.
+     */
+    public ConnectionPool(String url, String user, String password, int maxSize, long maxWaitMillis, long idleValidationMillis) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("maxSize must be positive: " + maxSize);
+        }
+        this.url = url;
+        this.user = user;
+        this.password = password;
+        this.maxSize = maxSize;
+        this.maxWaitMillis = maxWaitMillis;
+        this.idleValidationMillis = idleValidationMillis;
+        this.permits = new Semaphore(maxSize, true);
+        loadDriverFor(url);
+    }
+
+    /**
+     * Borrows a connection. Closing the returned connection hands it back to the pool.
+     * @throws SQLTimeoutException if no connection becomes free within maxWaitMillis.
+     */
+    public Connection getConnection() throws SQLException {
+        if (closed) {
+            throw new SQLException("Connection pool is closed: " + url);
+        }
+        long start = System.nanoTime();
+        boolean acquired;
+        try {
+            acquired = permits.tryAcquire(maxWaitMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("Interrupted while waiting for a database connection.", e);
+        }
+        waitNanos.add(System.nanoTime() - start);
+        acquireCount.increment();
+        if (!acquired) {
+            timeoutCount.increment();
+            ACQUIRE_TIMEOUTS.increment();
+            throw new SQLTimeoutException("Timed out after " + maxWaitMillis + " ms waiting for a database connection "
+                + "(active=" + activeCount.get() + ", max=" + maxSize + ")");
+        }
+
+        try {
+            PooledEntry entry = takeValidIdle();
+            if (entry == null) {
+                entry = new PooledEntry(DriverManager.getConnection(url, user, password));
+                openCount.incrementAndGet();
+                createdCount.increment();
+            }
+            activeCount.incrementAndGet();
+            Connection leased = entry.lease();
+            Metrics.recordSince(ACQUIRE_TIME, start);
+            return leased;
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    /** Pops the most recently used idle connection, discarding any that fail validation. */
+    private PooledEntry takeValidIdle() {
+        PooledEntry entry;
+        while ((entry = idle.pollFirst()) != null) {
+            boolean stale = System.currentTimeMillis() - entry.lastReturned > idleValidationMillis;
+            if (!stale || isUsable(entry.physical)) {
+                return entry;
+            }
+            discard(entry);
+        }
+        return null;
+    }
+
+    private static boolean isUsable(Connection conn) {
+        try {
+            return !conn.isClosed() && conn.isValid(VALIDATION_TIMEOUT_SECONDS);
+        } catch (SQLException e) {
+            return false;
+        }
+    }
+
+    private void release(PooledEntry entry) {
+        activeCount.decrementAndGet();
+        try {
+            if (closed || !resetForReuse(entry.physical)) {
+                discard(entry);
+            } else {
+                entry.lastReturned = System.currentTimeMillis();
+                idle.offerFirst(entry);
+            }
+        } finally {
+            permits.release();
+        }
+    }
+
+    /** Rolls back any open transaction so the next borrower starts clean. */
+    private static boolean resetForReuse(Connection conn) {
+        try {
+            if (conn.isClosed()) {
+                return false;
+            }
+            if (!conn.getAutoCommit()) {
+                conn.rollback();
+                conn.setAutoCommit(true);
+            }
+            if (conn.isReadOnly()) {
+                conn.setReadOnly(false);
+            }
+            conn.clearWarnings();
+            return true;
+        } catch (SQLException e) {
+            return false;
+        }
+    }
+
+    private void discard(PooledEntry entry) {
+        openCount.decrementAndGet();
+        discardedCount.increment();
+        try {
+            entry.physical.close();
+        } catch (SQLException ignored) {
+            // Already broken; nothing else to do.
+        }
+    }
+
+    /** Closes all idle connections; active ones are closed as they are returned. */
+    public void close() {
+        closed = true;
+        PooledEntry entry;
+        while ((entry = idle.pollFirst()) != null) {
+            discard(entry);
+        }
+    }
+
+    // --- Metrics ---
+
+    public int getActiveCount() { return activeCount.get(); }
+    public int getIdleCount() { return idle.size(); }
+    public int getOpenCount() { return openCount.get(); }
+    public int getMaxSize() { return maxSize; }
+    public long getAcquireCount() { return acquireCount.sum(); }
+    public long getTimeoutCount() { return timeoutCount.sum(); }
+    public long getCreatedCount() { return createdCount.sum(); }
+    public long getDiscardedCount() { return discardedCount.sum(); }
+    public long getTotalWaitMillis() { return TimeUnit.NANOSECONDS.toMillis(waitNanos.sum()); }
+
+    public double getAverageWaitMillis() {
+        long acquires = acquireCount.sum();
+        return acquires == 0 ? 0.0 : waitNanos.sum() / 1_000_000.0 / acquires;
+    }
+
+    /**
+     * Execution-time histogram per SQL string (execute/executeQuery/executeUpdate/executeBatch;
+     * the time to read through a ResultSet afterwards is not included).
+     */
+    public Map<String, LatencyHistogram> statementTimings() {
+        return statementTimings;
+    }
+
+    /** One line per statement, the most total time first, to see which query dominates. */
+    public String statementReport() {
+        List<Map.Entry<String, LatencyHistogram>> entries = new ArrayList<>(statementTimings.entrySet());
+        entries.sort(Comparator.comparingLong((Map.Entry<String, LatencyHistogram> e) -> e.getValue().getTotalNanos()).reversed());
+        StringBuilder report = new StringBuilder("SQL timings for " + url + " (by total time):\n");
+        for (Map.Entry<String, LatencyHistogram> entry : entries) {
+            LatencyHistogram timing = entry.getValue();
+            report.append(String.format("  %9.1f ms total  %s  %s%n", timing.getTotalNanos() / 1e6, timing, entry.getKey()));
+        }
+        return report.toString();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("ConnectionPool[%s active=%d idle=%d open=%d/%d acquires=%d timeouts=%d avgWait=%.2fms]",
+            url, getActiveCount(), getIdleCount(), getOpenCount(), maxSize, getAcquireCount(), getTimeoutCount(), getAverageWaitMillis());
+    }
+
+    // --- Driver loading ---
+
+    private static void loadDriverFor(String url) {
+        if (url == null || !url.startsWith("jdbc:mysql:")) {
+            return; // JDBC 4 drivers (H2, Derby, ...) register themselves via ServiceLoader.
+        }
+        try {
+            Class.forName("com.mysql.cj.jdbc.Driver");
+        } catch (ClassNotFoundException e) {
+            System.err.println("FATAL ERROR: MySQL JDBC Driver not found. Ensure the Connector/J JAR is in your project's classpath.");
+        }
+    }
+
+    // --- Pooled connection wrapper ---
+
+    /** One physical connection plus its bookkeeping. */
+    private final class PooledEntry {
+        final Connection physical;
+        volatile long lastReturned = System.currentTimeMillis();
+
+        PooledEntry(Connection physical) {
+            this.physical = physical;
+        }
+
+        Connection lease() {
+            return (Connection) Proxy.newProxyInstance(
+                ConnectionPool.class.getClassLoader(),
+                new Class<?>[] {Connection.class},
+                new LeaseHandler(this));
+        }
+    }
+
+    /** Proxy handler for one borrow of a physical connection; close() returns it to the pool. */
+    private final class LeaseHandler implements InvocationHandler {
+        private final PooledEntry entry;
+        private final AtomicBoolean returned = new AtomicBoolean(false);
+
+        LeaseHandler(PooledEntry entry) {
+            this.entry = entry;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "close":
+                    if (returned.compareAndSet(false, true)) {
+                        release(entry);
+                    }
+                    return null;
+                case "isClosed":
+                    return returned.get() || entry.physical.isClosed();
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return "Pooled[" + entry.physical + "]";
+                default:
+                    if (returned.get()) {
+                        throw new SQLException("Connection has already been returned to the pool.");
+                    }
+                    Object result;
+                    try {
+                        result = method.invoke(entry.physical, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    }
+                    if (TIME_STATEMENTS && result instanceof PreparedStatement && method.getName().equals("prepareStatement")) {
+                        String sql = (String) args[0];
+                        LatencyHistogram timing = statementTimings.computeIfAbsent(sql, key -> Metrics.histogram("sql " + key));
+                        return Proxy.newProxyInstance(
+                            ConnectionPool.class.getClassLoader(),
+                            new Class<?>[] {PreparedStatement.class},
+                            new TimedStatementHandler((PreparedStatement) result, (Connection) proxy, timing));
+                    }
+                    return result;
+            }
+        }
+    }
+
+    /** Proxy handler that times the execute* calls of one prepared statement. */
+    private static final class TimedStatementHandler implements InvocationHandler {
+        private final PreparedStatement statement;
+        private final Connection connection;
+        private final LatencyHistogram timing;
+
+        TimedStatementHandler(PreparedStatement statement, Connection connection, LatencyHistogram timing) {
+            this.statement = statement;
+            this.connection = connection;
+            this.timing = timing;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            if (name.equals("getConnection")) {
+                return connection; // never leak the physical connection past the pool
+            }
+            if (name.equals("equals")) {
+                return proxy == args[0];
+            }
+            if (name.equals("hashCode")) {
+                return System.identityHashCode(proxy);
+            }
+            boolean timed = name.startsWith("execute");
+            long start = timed ? System.nanoTime() : 0L;
+            try {
+                return method.invoke(statement, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            } finally {
+                if (timed) {
+                    timing.record(System.nanoTime() - start);
+                }
+            }
+        }
+    }
+}
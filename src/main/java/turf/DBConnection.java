@@ -0,0 +1,145 @@
+package turf;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * The application's single entry point for database connections.
+ * Settings come from turf-db.properties in the working directory (or the file named by
+ * -Dturf.db.config), overridden by system properties of the same name:
+ *
+ *   turf.db.url             JDBC URL (default jdbc:mysql://localhost:3306/turf_booking_db)
+ *   turf.db.user            default root
+ *   turf.db.password        default empty (XAMPP); the TURF_DB_PASSWORD environment variable also works
+ *   turf.db.statementCache  add MySQL prepared-statement caching and batch-rewrite parameters to the URL (default true)
+ *   turf.db.replicaUrls     comma-separated JDBC URLs of read replicas, same credentials (default none)
+ *   turf.db.replicaPolicy   leastLoaded (default) or roundRobin
+ *   turf.db.readYourWritesMs  how long a user's reads stay on the primary after they write (default 5000)
+ *   turf.db.healthCheckMs   interval between replica health checks (default 5000)
+ *
+ * Connections come from the shared ConnectionPool, so prepared-statement caches held by
+ * the driver survive across borrows instead of being rebuilt for every query.
+ * getConnection() always uses the primary; getReadConnection() may use a replica.
+ */
+public final class DBConnection {
+
+    private static final String DEFAULT_URL = "jdbc:mysql://localhost:3306/turf_booking_db";
+
+    // Connector/J: cache parsed statements client-side and prepare them once on the server;
+    // send JDBC batches (bulk import) as multi-row INSERTs instead of one round trip per row
+    private static final String[] MYSQL_STATEMENT_CACHE_PARAMS = {
+        "cachePrepStmts=true", "useServerPrepStmts=true", "prepStmtCacheSize=250", "prepStmtCacheSqlLimit=2048",
+        "rewriteBatchedStatements=true"
+    };
+
+    // Connector/J ignores setFetchSize() and buffers the whole result unless it may use a
+    // server-side cursor; streamed queries (TurfService.streamTurfsByCategory) rely on this
+    private static final String MYSQL_CURSOR_FETCH_PARAM = "useCursorFetch=true";
+
+    private static final Properties CONFIG = loadConfig();
+    private static final String DB_URL = configureUrl(setting("turf.db.url", DEFAULT_URL));
+    private static final String DB_USER = setting("turf.db.user", "root");
+    private static final String DB_PASS = setting("turf.db.password", System.getenv().getOrDefault("TURF_DB_PASSWORD", ""));
+
+    private static RoutingDataSource router;
+
+    private DBConnection() {}
+
+    /** Borrows a pooled connection to the primary; closing it returns it to the shared pool. Use for writes. */
+    public static Connection getConnection() throws SQLException {
+        return pool().getConnection();
+    }
+
+    /**
+     * Borrows a connection for read-only queries, from a replica when any are configured.
+     * Pass the user the read is for (null for anonymous reads like the public catalog) so
+     * their reads see their own recent writes.
+     */
+    public static Connection getReadConnection(String username) throws SQLException {
+        return router().getReadConnection(username);
+    }
+
+    /** Call after username's write commits: their reads go to the primary for turf.db.readYourWritesMs. */
+    public static void recordWrite(String username) {
+        router().recordWrite(username);
+    }
+
+    /** Routes reads between the primary and the configured replicas; built on first use. */
+    public static synchronized RoutingDataSource router() {
+        if (router == null) {
+            Map<String, ConnectionPool> replicas = new LinkedHashMap<>();
+            for (String url : setting("turf.db.replicaUrls", "").split(",")) {
+                if (!url.trim().isEmpty()) {
+                    String replicaUrl = configureUrl(url.trim());
+                    replicas.put(replicaUrl, ConnectionPool.shared(replicaUrl, DB_USER, DB_PASS));
+                }
+            }
+            RoutingDataSource.Strategy strategy = setting("turf.db.replicaPolicy", "leastLoaded").equalsIgnoreCase("roundRobin")
+                ? RoutingDataSource.Strategy.ROUND_ROBIN : RoutingDataSource.Strategy.LEAST_LOADED;
+            router = new RoutingDataSource(pool(), replicas, strategy, Long.parseLong(setting("turf.db.readYourWritesMs", "5000")));
+            router.startHealthChecks(Long.parseLong(setting("turf.db.healthCheckMs", "5000")));
+        }
+        return router;
+    }
+
+    /** The shared pool behind getConnection(), for metrics and per-statement timings. */
+    public static ConnectionPool pool() {
+        return ConnectionPool.shared(DB_URL, DB_USER, DB_PASS);
+    }
+
+    /** The effective JDBC URL, including any parameters added here. */
+    public static String getUrl() {
+        return DB_URL;
+    }
+
+    private static String setting(String key, String defaultValue) {
+        String value = System.getProperty(key);
+        return value != null ? value : CONFIG.getProperty(key, defaultValue);
+    }
+
+    private static Properties loadConfig() {
+        Properties config = new Properties();
+        Path file = Paths.get(System.getProperty("turf.db.config", "turf-db.properties"));
+        if (Files.isRegularFile(file)) {
+            try (InputStream in = Files.newInputStream(file)) {
+                config.load(in);
+            } catch (IOException e) {
+                System.err.println("Could not read database settings from " + file + ": " + e.getMessage());
+            }
+        }
+        return config;
+    }
+
+    /**
+     * Appends useCursorFetch and (unless turf.db.statementCache=false) the statement-cache
+     * parameters to MySQL URLs, skipping any already set there.
+     */
+    static String configureUrl(String url) {
+        if (!url.startsWith("jdbc:mysql:")) {
+            return url;
+        }
+        StringBuilder configured = new StringBuilder(url);
+        appendParam(configured, url, MYSQL_CURSOR_FETCH_PARAM);
+        if (Boolean.parseBoolean(setting("turf.db.statementCache", "true"))) {
+            for (String param : MYSQL_STATEMENT_CACHE_PARAMS) {
+                appendParam(configured, url, param);
+            }
+        }
+        return configured.toString();
+    }
+
+    private static void appendParam(StringBuilder configured, String url, String param) {
+        String name = param.substring(0, param.indexOf('=') + 1);
+        if (!url.contains(name)) {
+            configured.append(configured.indexOf("?") < 0 ? '?' : '&').append(param);
+        }
+    }
+}
@@ -0,0 +1,332 @@
+package turf;
+
+import java.awt.AWTEvent;
+import java.awt.EventQueue;
+import java.awt.Toolkit;
+import java.awt.event.ActionListener;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import javax.swing.AbstractButton;
+
+/**
+ * Opt-in EDT stall detector (-Dturf.edtWatchdog=true). Replaces the AWT event queue with
+ * one that times every dispatched event; while an event runs past the threshold a sampler
+ * thread captures the EDT's stack, and once it finishes the stall is logged and kept in a
+ * ring buffer: how long it took, the event and its source, and the application method that
+ * handled it (e.g. LoginSignup.loginUser) together with where it was busy.
+ *
+ *   turf.edtWatchdog.thresholdMs  stall threshold, default 200
+ *   turf.edtWatchdog.bufferSize   stalls kept for dump(), default 64
+ *
+ * Events dispatched from a nested loop (a modal dialog opened by a handler) are timed on
+ * their own; the handler that opened the dialog stops being timed at that point, so time
+ * spent reading a dialog is not reported as a stall. The buffer is printed at exit.
+ */
+public class EdtWatchdog extends EventQueue {
+
+    private static final long DEFAULT_THRESHOLD_MS = Long.getLong("turf.edtWatchdog.thresholdMs", 200L);
+    private static final int BUFFER_SIZE = Integer.getInteger("turf.edtWatchdog.bufferSize", 64);
+    private static final int MAX_SAMPLES_PER_STALL = 5;
+    private static final int DUMP_FRAMES = 20;
+
+    private static final LatencyHistogram EVENT_TIME = Metrics.histogram("edt.event");
+    private static final LongAdder STALLS = Metrics.counter("edt.stalls");
+
+    private static EdtWatchdog installed;
+
+    /** One stall: an event whose handler kept the EDT busy past the threshold. */
+    public static final class Stall {
+        public final long timestampMillis;
+        public final long durationMillis;
+        public final String event;
+        public final String handler;
+        public final List<StackTraceElement[]> samples;
+
+        Stall(long timestampMillis, long durationMillis, String event, String handler, List<StackTraceElement[]> samples) {
+            this.timestampMillis = timestampMillis;
+            this.durationMillis = durationMillis;
+            this.event = event;
+            this.handler = handler;
+            this.samples = samples;
+        }
+
+        @Override
+        public String toString() {
+            return durationMillis + " ms in " + handler + " (" + event + ")";
+        }
+    }
+
+    /** One event being dispatched; the sampler reads it from another thread. */
+    private static final class Dispatch {
+        final AWTEvent event;
+        final long startNanos;
+        final List<StackTraceElement[]> samples = new ArrayList<>(); // guarded by itself
+        volatile boolean suspended; // a nested event loop took over
+
+        Dispatch(AWTEvent event, long startNanos) {
+            this.event = event;
+            this.startNanos = startNanos;
+        }
+    }
+
+    private final long thresholdNanos;
+    private final Stall[] ring = new Stall[Math.max(1, BUFFER_SIZE)];
+    private int ringNext;   // guarded by ring
+    private long ringTotal; // guarded by ring
+
+    // EDT-only bookkeeping, published to the sampler through the volatile fields
+    private int depth;
+    private volatile Dispatch current;
+    private volatile Thread edt;
+
+    // --- Installation ---
+
+    /** Installs the watchdog if -Dturf.edtWatchdog=true; returns it, or null when disabled. */
+    public static EdtWatchdog installIfEnabled() {
+        return Boolean.getBoolean("turf.edtWatchdog") ? install(DEFAULT_THRESHOLD_MS) : null;
+    }
+
+    /** Installs the watchdog (once per process) on the system event queue. */
+    public static synchronized EdtWatchdog install(long thresholdMillis) {
+        if (installed != null) {
+            return installed;
+        }
+        EdtWatchdog watchdog = new EdtWatchdog(thresholdMillis);
+        Toolkit.getDefaultToolkit().getSystemEventQueue().push(watchdog);
+        watchdog.startSampler(Math.max(5, thresholdMillis / 4));
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            if (!watchdog.recentStalls().isEmpty()) {
+                System.err.print(watchdog.dump());
+            }
+        }, "turf-edt-watchdog-dump"));
+        System.out.println("🐕 EDT watchdog on, reporting events over " + thresholdMillis + " ms");
+        installed = watchdog;
+        return watchdog;
+    }
+
+    /** The installed watchdog, or null. */
+    public static synchronized EdtWatchdog installed() {
+        return installed;
+    }
+
+    private EdtWatchdog(long thresholdMillis) {
+        this.thresholdNanos = TimeUnit.MILLISECONDS.toNanos(thresholdMillis);
+    }
+
+    // --- Timing ---
+
+    @Override
+    protected void dispatchEvent(AWTEvent event) {
+        edt = Thread.currentThread();
+        if (depth > 0) {
+            suspendCurrent();
+        }
+        Dispatch dispatch = new Dispatch(event, System.nanoTime());
+        current = dispatch;
+        depth++;
+        try {
+            super.dispatchEvent(event);
+        } finally {
+            depth--;
+            long duration = System.nanoTime() - dispatch.startNanos;
+            current = null; // an outer, suspended dispatch is not timed any further
+            if (!dispatch.suspended) {
+                EVENT_TIME.record(duration);
+                if (duration > thresholdNanos) {
+                    record(dispatch, duration);
+                }
+            }
+        }
+    }
+
+    @Override
+    public AWTEvent getNextEvent() throws InterruptedException {
+        if (depth > 0) {
+            suspendCurrent(); // a secondary loop is waiting for events inside a handler
+        }
+        return super.getNextEvent();
+    }
+
+    /** Stops timing the running event (a nested loop took over), reporting it if it had already stalled. */
+    private void suspendCurrent() {
+        Dispatch outer = current;
+        if (outer == null || outer.suspended) {
+            return;
+        }
+        outer.suspended = true;
+        long elapsed = System.nanoTime() - outer.startNanos;
+        EVENT_TIME.record(elapsed);
+        if (elapsed > thresholdNanos) {
+            record(outer, elapsed);
+        }
+    }
+
+    private void startSampler(long intervalMillis) {
+        Thread sampler = new Thread(() -> {
+            while (true) {
+                try {
+                    Thread.sleep(intervalMillis);
+                } catch (InterruptedException e) {
+                    return;
+                }
+                Dispatch dispatch = current;
+                Thread thread = edt;
+                if (dispatch == null || thread == null || dispatch.suspended
+                        || System.nanoTime() - dispatch.startNanos < thresholdNanos) {
+                    continue;
+                }
+                StackTraceElement[] stack = thread.getStackTrace();
+                synchronized (dispatch.samples) {
+                    if (current == dispatch && dispatch.samples.size() < MAX_SAMPLES_PER_STALL) {
+                        dispatch.samples.add(stack);
+                    }
+                }
+            }
+        }, "turf-edt-watchdog");
+        sampler.setDaemon(true);
+        sampler.start();
+    }
+
+    // --- Stalls ---
+
+    private void record(Dispatch dispatch, long durationNanos) {
+        List<StackTraceElement[]> samples;
+        synchronized (dispatch.samples) {
+            samples = new ArrayList<>(dispatch.samples);
+        }
+        Stall stall = new Stall(System.currentTimeMillis(), TimeUnit.NANOSECONDS.toMillis(durationNanos),
+            describeEvent(dispatch.event), describeHandler(dispatch.event, samples), samples);
+        synchronized (ring) {
+            ring[ringNext] = stall;
+            ringNext = (ringNext + 1) % ring.length;
+            ringTotal++;
+        }
+        STALLS.increment();
+        System.err.println("🐢 EDT stall: " + stall);
+    }
+
+    /** The most recent stalls, oldest first. */
+    public List<Stall> recentStalls() {
+        List<Stall> stalls = new ArrayList<>(ring.length);
+        synchronized (ring) {
+            for (int i = 0; i < ring.length; i++) {
+                Stall stall = ring[(ringNext + i) % ring.length];
+                if (stall != null) {
+                    stalls.add(stall);
+                }
+            }
+        }
+        return stalls;
+    }
+
+    /** Text report of the buffered stalls with the first stack sample of each. */
+    public String dump() {
+        List<Stall> stalls = recentStalls();
+        long total;
+        synchronized (ring) {
+            total = ringTotal;
+        }
+        SimpleDateFormat time = new SimpleDateFormat("HH:mm:ss.SSS");
+        StringBuilder report = new StringBuilder("🐢 EDT stalls: " + total + " total, last " + stalls.size() + "\n");
+        for (Stall stall : stalls) {
+            report.append("  ").append(time.format(new Date(stall.timestampMillis))).append("  ").append(stall).append('\n');
+            if (!stall.samples.isEmpty()) {
+                StackTraceElement[] stack = stall.samples.get(0);
+                for (int i = 0; i < Math.min(DUMP_FRAMES, stack.length); i++) {
+                    report.append("      at ").append(stack[i]).append('\n');
+                }
+            }
+        }
+        return report.toString();
+    }
+
+    private static String describeEvent(AWTEvent event) {
+        Object source = event.getSource();
+        String on = source instanceof AbstractButton
+            ? source.getClass().getSimpleName() + " '" + ((AbstractButton) source).getText() + "'"
+            : source == null ? "?" : source.getClass().getSimpleName();
+        return event.getClass().getSimpleName() + " on " + on;
+    }
+
+    /**
+     * The application method that handled the event. In a stack sample, listener code is a
+     * run of application frames entered from a JDK event-delivery frame (fireActionPerformed,
+     * InvocationEvent.dispatch, ...); the innermost such run is the listener, and its outermost
+     * named method (not a lambda shim) is reported, e.g. LoginSignup.loginUser, along with the
+     * innermost application frame, where the time went. Without samples, the source's listener classes.
+     */
+    static String describeHandler(AWTEvent event, List<StackTraceElement[]> samples) {
+        if (!samples.isEmpty()) {
+            StackTraceElement[] stack = samples.get(samples.size() / 2); // index 0 is the innermost frame
+            StackTraceElement busy = null;
+            for (StackTraceElement frame : stack) {
+                if (isApplicationFrame(frame)) {
+                    busy = frame;
+                    break;
+                }
+            }
+            for (int i = 0; i < stack.length; i++) {
+                if (!isApplicationFrame(stack[i])) {
+                    continue;
+                }
+                // stack[i..end) is a run of application frames; is it entered from event delivery?
+                int end = i;
+                while (end < stack.length && isApplicationFrame(stack[end])) {
+                    end++;
+                }
+                if (end < stack.length && isEventDelivery(stack[end])) {
+                    StackTraceElement handler = null;
+                    for (int j = end - 1; j >= i && handler == null; j--) {
+                        if (!stack[j].getMethodName().startsWith("lambda$") && !stack[j].getClassName().contains("$$Lambda")) {
+                            handler = stack[j];
+                        }
+                    }
+                    if (handler == null) {
+                        handler = stack[i];
+                    }
+                    String name = frameName(handler);
+                    return handler == busy ? name : name + " (busy in " + frameName(busy) + ")";
+                }
+                i = end;
+            }
+            if (busy != null) {
+                return "busy in " + frameName(busy);
+            }
+        }
+        if (event.getSource() instanceof AbstractButton) {
+            List<String> listeners = new ArrayList<>();
+            for (ActionListener listener : ((AbstractButton) event.getSource()).getActionListeners()) {
+                listeners.add(listener.getClass().getName());
+            }
+            return "listeners " + listeners;
+        }
+        return "unknown handler";
+    }
+
+    /** JDK frames that call listeners: fire*, dispatch*, process*, actionPerformed of Swing's timer, ... */
+    private static boolean isEventDelivery(StackTraceElement frame) {
+        String method = frame.getMethodName();
+        return method.startsWith("fire") || method.startsWith("dispatch") || method.startsWith("process")
+            || method.equals("run") && frame.getClassName().startsWith("javax.swing.Timer");
+    }
+
+    private static boolean isApplicationFrame(StackTraceElement frame) {
+        String className = frame.getClassName();
+        for (String prefix : Arrays.asList("java.", "javax.", "sun.", "jdk.", "com.sun.")) {
+            if (className.startsWith(prefix)) {
+                return false;
+            }
+        }
+        return !className.equals(EdtWatchdog.class.getName());
+    }
+
+    private static String frameName(StackTraceElement frame) {
+        String className = frame.getClassName();
+        return className.substring(className.lastIndexOf('.') + 1) + "." + frame.getMethodName();
+    }
+}
@@ -1,3 +1,5 @@
+package turf;
+
 import java.awt.*;
 import java.sql.*;
 import javax.swing.*;
@@ -129,6 +131,16 @@ public class LoginSignup extends JFrame {
         switchBtn.setText(isLoginMode ? "Switch to Signup" : "Switch to Login");
     }
 
+    /** Enables/disables the form while a database call is in flight. */
+    private void setBusy(boolean busy) {
+        loginBtn.setEnabled(!busy);
+        signupBtn.setEnabled(!busy);
+        switchBtn.setEnabled(!busy);
+        loginBtn.setText(busy && isLoginMode ? "Logging in..." : "Login");
+        signupBtn.setText(busy && !isLoginMode ? "Signing up..." : "Sign Up");
+        setCursor(busy ? Cursor.getPredefinedCursor(Cursor.WAIT_CURSOR) : Cursor.getDefaultCursor());
+    }
+
     private void loginUser() {
         String username = usernameField.getText();
         String password = new String(passwordField.getPassword());
@@ -138,34 +150,29 @@ public class LoginSignup extends JFrame {
             return;
         }
 
-        try (Connection conn = DBConnection.getConnection()) {
-            String query = "SELECT * FROM users WHERE username=? AND password=?";
-            PreparedStatement pst = conn.prepareStatement(query);
-            pst.setString(1, username);
-            pst.setString(2, password);
-            ResultSet rs = pst.executeQuery();
-
-            if (rs.next()) {
-                // Get user role from database
-                String role = rs.getString("role");
-                String email = rs.getString("email");
-                
-                // Store user session
-                SessionManager.login(username, role);
-                
-                JOptionPane.showMessageDialog(this, 
-                    "Login Successful! Welcome " + username + " (" + role + ")");
-                
-                // Redirect based on role
-                SessionManager.redirectBasedOnRole(this);
-                
-            } else {
-                JOptionPane.showMessageDialog(this, "Invalid credentials!");
-            }
-        } catch (Exception ex) {
-            JOptionPane.showMessageDialog(this, "A database error occurred during login.");
-            ex.printStackTrace();
-        }
+        // JDBC work runs on the worker pool; the result is handled back on the EDT
+        setBusy(true);
+        AsyncDataAccess.onEdt(AsyncDataAccess.supplyAsync(() -> AuthService.authenticate(username, password)),
+            role -> {
+                setBusy(false);
+                if (role != null) {
+                    // Store user session
+                    SessionManager.login(username, role);
+                    
+                    JOptionPane.showMessageDialog(this, 
+                        "Login Successful! Welcome " + username + " (" + role + ")");
+                    
+                    // Redirect based on role
+                    SessionManager.redirectBasedOnRole(this);
+                } else {
+                    JOptionPane.showMessageDialog(this, "Invalid credentials!");
+                }
+            },
+            ex -> {
+                setBusy(false);
+                JOptionPane.showMessageDialog(this, "A database error occurred during login.");
+                ex.printStackTrace();
+            });
     }
 
     private void signupUser() {
@@ -179,101 +186,36 @@ public class LoginSignup extends JFrame {
             return;
         }
 
-        try (Connection conn = DBConnection.getConnection()) {
-            String query = "INSERT INTO users(username, email, password, role) VALUES (?, ?, ?, ?)";
-            PreparedStatement pst = conn.prepareStatement(query);
-            pst.setString(1, username);
-            pst.setString(2, email);
-            pst.setString(3, password);
-            pst.setString(4, role);
-            pst.executeUpdate();
-
-            JOptionPane.showMessageDialog(this, "Signup Successful! You can now login.");
-            
-            // Switch to login mode and pre-fill username
-            toggleMode();
-            usernameField.setText(username); // Pre-fill the username
-            passwordField.setText(""); // Clear password field
-            
-        } catch (SQLIntegrityConstraintViolationException e) {
-            JOptionPane.showMessageDialog(this, "Username already exists!");
-        } catch (Exception ex) {
-            JOptionPane.showMessageDialog(this, "A database error occurred during signup.");
-            ex.printStackTrace();
-        }
-    }
-
-    public static void main(String[] args) {
-        SwingUtilities.invokeLater(() -> new LoginSignup());
-    }
-}
-
-// SessionManager class for handling user sessions
-class SessionManager {
-    private static String currentUsername;
-    private static String currentRole;
-    private static boolean isLoggedIn = false;
-    
-    public static void login(String username, String role) {
-        currentUsername = username;
-        currentRole = role;
-        isLoggedIn = true;
-        System.out.println("✅ User logged in: " + username + " as " + role);
-    }
-    
-    public static void logout() {
-        currentUsername = null;
-        currentRole = null;
-        isLoggedIn = false;
-        System.out.println("✅ User logged out");
-    }
-    
-    public static boolean isLoggedIn() { return isLoggedIn; }
-    public static String getCurrentUser() { return currentUsername; }
-    public static String getCurrentRole() { return currentRole; }
-    
-    public static void redirectBasedOnRole(JFrame currentFrame) {
-        if (!isLoggedIn) {
-            System.out.println("❌ No user logged in for redirection");
-            return;
-        }
-        
-        System.out.println("🔄 Redirecting user: " + currentUsername + " with role: " + currentRole);
-        currentFrame.dispose(); // Close login window
-        
-        // Small delay to ensure window closes properly
-        Timer timer = new Timer(300, e -> {
-            try {
-                if ("Turf Owner".equals(currentRole)) {
-                    System.out.println("🚀 Opening TurfOwnerDashboard...");
-                    new TurfOwnerDashboard().setVisible(true);
+        setBusy(true);
+        AsyncDataAccess.onEdt(AsyncDataAccess.supplyAsync(() -> {
+                AuthService.register(username, email, password, role);
+                return username;
+            }),
+            registered -> {
+                setBusy(false);
+                JOptionPane.showMessageDialog(this, "Signup Successful! You can now login.");
+                
+                // Switch to login mode and pre-fill username
+                toggleMode();
+                usernameField.setText(username); // Pre-fill the username
+                passwordField.setText(""); // Clear password field
+            },
+            ex -> {
+                setBusy(false);
+                if (ex instanceof SQLIntegrityConstraintViolationException) {
+                    JOptionPane.showMessageDialog(this, "Username already exists!");
                 } else {
-                    System.out.println("🚀 Opening TurfHub...");
-                    new TurfHub().setVisible(true);
+                    JOptionPane.showMessageDialog(this, "A database error occurred during signup.");
+                    ex.printStackTrace();
                 }
-            } catch (Exception ex) {
-                System.err.println("❌ Error opening dashboard: " + ex.getMessage());
-                ex.printStackTrace();
-            }
-        });
-        timer.setRepeats(false);
-        timer.start();
+            });
     }
-}
 
-// Ensure your non-public DBConnection class is present below this public class in the same file.
-class DBConnection {
-    private static final String DB_URL = "jdbc:mysql://localhost:3306/turf_booking_db";
-    private static final String DB_USER = "root";
-    private static final String DB_PASS = ""; // Changed to empty string for XAMPP
-
-    public static Connection getConnection() throws SQLException {
-        try {
-            Class.forName("com.mysql.cj.jdbc.Driver");
-        } catch (ClassNotFoundException e) {
-            System.err.println("FATAL ERROR: MySQL JDBC Driver not found. Check your classpath!");
-            throw new SQLException("MySQL JDBC Driver not found. Make sure your JDBC JAR is in the classpath.", e);
-        }
-        return DriverManager.getConnection(DB_URL, DB_USER, DB_PASS);
+    public static void main(String[] args) {
+        StartupTimer.watchFirstPaint("LoginSignup");
+        Metrics.start();
+        Metrics.startEdtProbe();
+        EdtWatchdog.installIfEnabled();
+        SwingUtilities.invokeLater(() -> new LoginSignup());
     }
 }
@@ -0,0 +1,229 @@
+package turf;
+
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+import javax.management.Attribute;
+import javax.management.AttributeList;
+import javax.management.AttributeNotFoundException;
+import javax.management.DynamicMBean;
+import javax.management.MBeanAttributeInfo;
+import javax.management.MBeanInfo;
+import javax.management.MBeanOperationInfo;
+import javax.management.ObjectName;
+import javax.swing.SwingUtilities;
+
+/**
+ * Process-wide registry of named counters (LongAdder), gauges and latency histograms
+ * (LatencyHistogram). Recording never takes a lock: look a metric up once, keep it in a
+ * static final field, and count or time into it on the hot path.
+ *
+ *   db.pool.acquire        time to borrow a pooled connection
+ *   db.route.*             reads sent to replicas vs the primary, failovers, healthy replicas
+ *   sql <statement>        every execution of each prepared statement
+ *   cache.*                catalog, page and login cache hits/misses
+ *   auth.login, catalog.page, booking.commit   service-level latency
+ *   edt.dispatchDelay      how long a probe event waits for the EDT (i.e. EDT blocking)
+ *   edt.callback           time spent on the EDT delivering async results
+ *   ui.frameBuild.*        time to construct each top-level frame
+ *
+ * start() (called from the mains) exposes everything as attributes of the JMX bean
+ * turf:type=Metrics and, with -Dturf.metrics.dumpSeconds=N, prints report() every N seconds.
+ * -Dturf.metrics.jmx=false skips the JMX bean.
+ */
+public final class Metrics {
+
+    private static final Map<String, LongAdder> COUNTERS = new ConcurrentHashMap<>();
+    private static final Map<String, LongSupplier> GAUGES = new ConcurrentHashMap<>();
+    private static final Map<String, LatencyHistogram> HISTOGRAMS = new ConcurrentHashMap<>();
+    private static final AtomicBoolean STARTED = new AtomicBoolean();
+
+    private static final long EDT_PROBE_INTERVAL_MS = Long.getLong("turf.metrics.edtProbeMs", 100L);
+
+    private Metrics() {}
+
+    // --- Registry ---
+
+    public static LongAdder counter(String name) {
+        LongAdder counter = COUNTERS.get(name);
+        return counter != null ? counter : COUNTERS.computeIfAbsent(name, key -> new LongAdder());
+    }
+
+    public static LatencyHistogram histogram(String name) {
+        LatencyHistogram histogram = HISTOGRAMS.get(name);
+        return histogram != null ? histogram : HISTOGRAMS.computeIfAbsent(name, key -> new LatencyHistogram());
+    }
+
+    /** Registers a value read on demand, e.g. a counter some other class already keeps. */
+    public static void gauge(String name, LongSupplier value) {
+        GAUGES.put(name, value);
+    }
+
+    /** Records the time since startNanos (from System.nanoTime()) into the histogram. */
+    public static void recordSince(LatencyHistogram histogram, long startNanos) {
+        histogram.record(System.nanoTime() - startNanos);
+    }
+
+    /** Every counter and gauge value plus a summary line per histogram, sorted by name. */
+    public static String report() {
+        StringBuilder report = new StringBuilder("📊 Metrics\n");
+        Map<String, Long> values = new TreeMap<>();
+        COUNTERS.forEach((name, counter) -> values.put(name, counter.sum()));
+        GAUGES.forEach((name, gauge) -> values.put(name, gauge.getAsLong()));
+        values.forEach((name, value) -> report.append(String.format("  %-40s %,d%n", name, value)));
+        new TreeMap<>(HISTOGRAMS).forEach((name, histogram) -> {
+            if (histogram.getCount() > 0) {
+                report.append(String.format("  %-40s %s%n", name, histogram));
+            }
+        });
+        return report.toString();
+    }
+
+    // --- Export ---
+
+    /** Registers the JMX bean and starts the periodic dump, once per process; off the caller's thread. */
+    public static void start() {
+        if (!STARTED.compareAndSet(false, true)) {
+            return;
+        }
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "turf-metrics");
+            thread.setDaemon(true);
+            return thread;
+        });
+        if (Boolean.parseBoolean(System.getProperty("turf.metrics.jmx", "true"))) {
+            // Loading the platform MBean server costs tens of ms; keep it off the startup path
+            scheduler.execute(Metrics::registerMBean);
+        }
+        long dumpSeconds = Long.getLong("turf.metrics.dumpSeconds", 0L);
+        if (dumpSeconds > 0) {
+            scheduler.scheduleAtFixedRate(() -> System.err.print(report()), dumpSeconds, dumpSeconds, TimeUnit.SECONDS);
+        }
+    }
+
+    /**
+     * Measures EDT blocking: every turf.metrics.edtProbeMs a daemon thread posts an empty
+     * event and records how long the EDT takes to get to it. Call once from GUI mains; the
+     * probe keeps AWT from auto-shutting down, which is fine since every frame uses EXIT_ON_CLOSE.
+     */
+    public static void startEdtProbe() {
+        LatencyHistogram delay = histogram("edt.dispatchDelay");
+        Thread probe = new Thread(() -> {
+            while (true) {
+                long posted = System.nanoTime();
+                try {
+                    SwingUtilities.invokeAndWait(() -> recordSince(delay, posted));
+                    Thread.sleep(EDT_PROBE_INTERVAL_MS);
+                } catch (InterruptedException | InvocationTargetException e) {
+                    return;
+                }
+            }
+        }, "turf-edt-probe");
+        probe.setDaemon(true);
+        probe.start();
+    }
+
+    private static void registerMBean() {
+        try {
+            ManagementFactory.getPlatformMBeanServer().registerMBean(new MetricsMBean(), new ObjectName("turf:type=Metrics"));
+        } catch (Exception e) {
+            System.err.println("Could not register the metrics MBean: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Read-only view of the registry for JConsole/VisualVM: one Long attribute per counter and
+     * gauge, and count/meanMs/p50Ms/p99Ms/maxMs attributes per histogram. The attribute list is
+     * rebuilt on every getMBeanInfo(), so metrics created later show up on refresh.
+     */
+    private static final class MetricsMBean implements DynamicMBean {
+
+        private static final String[] HISTOGRAM_FIELDS = {"count", "meanMs", "p50Ms", "p99Ms", "maxMs"};
+
+        @Override
+        public Object getAttribute(String attribute) throws AttributeNotFoundException {
+            LongAdder counter = COUNTERS.get(attribute);
+            if (counter != null) {
+                return counter.sum();
+            }
+            LongSupplier gauge = GAUGES.get(attribute);
+            if (gauge != null) {
+                return gauge.getAsLong();
+            }
+            int dot = attribute.lastIndexOf('.');
+            LatencyHistogram histogram = dot < 0 ? null : HISTOGRAMS.get(attribute.substring(0, dot));
+            if (histogram != null) {
+                switch (attribute.substring(dot + 1)) {
+                    case "count": return (double) histogram.getCount();
+                    case "meanMs": return histogram.getMeanMillis();
+                    case "p50Ms": return histogram.percentileMillis(50);
+                    case "p99Ms": return histogram.percentileMillis(99);
+                    case "maxMs": return histogram.getMaxNanos() / 1e6;
+                    default: break;
+                }
+            }
+            throw new AttributeNotFoundException(attribute);
+        }
+
+        @Override
+        public AttributeList getAttributes(String[] attributes) {
+            AttributeList list = new AttributeList();
+            for (String attribute : attributes) {
+                try {
+                    list.add(new Attribute(attribute, getAttribute(attribute)));
+                } catch (AttributeNotFoundException e) {
+                    // Skipped, as the DynamicMBean contract allows
+                }
+            }
+            return list;
+        }
+
+        @Override
+        public void setAttribute(Attribute attribute) throws AttributeNotFoundException {
+            throw new AttributeNotFoundException("Metrics are read-only: " + attribute.getName());
+        }
+
+        @Override
+        public AttributeList setAttributes(AttributeList attributes) {
+            return new AttributeList();
+        }
+
+        @Override
+        public Object invoke(String actionName, Object[] params, String[] signature) {
+            if (actionName.equals("report")) {
+                return report();
+            }
+            throw new UnsupportedOperationException(actionName);
+        }
+
+        @Override
+        public MBeanInfo getMBeanInfo() {
+            List<MBeanAttributeInfo> attributes = new ArrayList<>();
+            for (String name : new TreeMap<>(COUNTERS).keySet()) {
+                attributes.add(new MBeanAttributeInfo(name, "java.lang.Long", "counter", true, false, false));
+            }
+            for (String name : new TreeMap<>(GAUGES).keySet()) {
+                attributes.add(new MBeanAttributeInfo(name, "java.lang.Long", "gauge", true, false, false));
+            }
+            for (String name : new TreeMap<>(HISTOGRAMS).keySet()) {
+                for (String field : HISTOGRAM_FIELDS) {
+                    attributes.add(new MBeanAttributeInfo(name + "." + field, "java.lang.Double", "latency", true, false, false));
+                }
+            }
+            MBeanOperationInfo report = new MBeanOperationInfo("report", "Text dump of every metric",
+                null, "java.lang.String", MBeanOperationInfo.INFO);
+            return new MBeanInfo(Metrics.class.getName(), "Turf booking hot-path metrics",
+                attributes.toArray(new MBeanAttributeInfo[0]), null, new MBeanOperationInfo[] {report}, null);
+        }
+    }
+}
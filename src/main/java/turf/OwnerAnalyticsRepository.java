@@ -0,0 +1,122 @@
+package turf;
+
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Loads an owner's turfs and booking metrics from the database for TurfOwnerDashboard.
+ * Per-turf counts and revenue are aggregated in SQL (GROUP BY) rather than by pulling
+ * every booking row into Java; see schema.sql for the covering index that backs it.
+ * All-time totals come from OwnerStatsSnapshot, which only aggregates the bookings made
+ * since the owner's last open.
+ */
+public class OwnerAnalyticsRepository {
+
+    // Earliest/latest values MySQL accepts for a DATE column; used when a range bound is open
+    private static final LocalDate MIN_DATE = LocalDate.of(1000, 1, 1);
+    private static final LocalDate MAX_DATE = LocalDate.of(9999, 12, 31);
+
+    private static final String SELECT_OWNER_TURFS_SQL =
+        "SELECT id, name, address, hourly_rate FROM turfs WHERE owner_username = ? ORDER BY id";
+
+    private static final String SELECT_TURF_STATS_SQL =
+        "SELECT b.turf_id, COUNT(*) AS bookings, COALESCE(SUM(b.total_cost), 0) AS income "
+        + "FROM bookings b JOIN turfs t ON t.id = b.turf_id "
+        + "WHERE t.owner_username = ? AND b.booking_date BETWEEN ? AND ? "
+        + "GROUP BY b.turf_id";
+
+    /** Aggregated metrics for one turf over a date range. */
+    static class TurfStats {
+        public final String turfId;
+        public final int bookings;
+        public final double income;
+
+        public TurfStats(String turfId, int bookings, double income) {
+            this.turfId = turfId;
+            this.bookings = bookings;
+            this.income = income;
+        }
+    }
+
+    /** An owner's turfs plus their aggregates over a date range, loaded together for the dashboard. */
+    static class OwnerData {
+        public final List<TurfOwnerDashboard.Turf> turfs;
+        public final List<TurfStats> stats;
+
+        public OwnerData(List<TurfOwnerDashboard.Turf> turfs, List<TurfStats> stats) {
+            this.turfs = turfs;
+            this.stats = stats;
+        }
+    }
+
+    /** Loads everything the dashboard landing view needs for one owner, with all-time aggregates. */
+    public static OwnerData loadOwnerData(String ownerUsername) throws SQLException {
+        return loadOwnerData(ownerUsername, null, null);
+    }
+
+    /**
+     * Loads the owner's turfs with aggregates over bookings dated within [from, to]
+     * (inclusive; a null bound leaves that side open).
+     */
+    public static OwnerData loadOwnerData(String ownerUsername, LocalDate from, LocalDate to) throws SQLException {
+        List<TurfStats> stats = from == null && to == null
+            ? OwnerStatsSnapshot.loadTurfStats(ownerUsername)
+            : loadTurfStats(ownerUsername, from, to);
+        return new OwnerData(loadOwnerTurfs(ownerUsername), stats);
+    }
+
+    /** Returns the turfs registered to the given owner, ordered by id. */
+    public static List<TurfOwnerDashboard.Turf> loadOwnerTurfs(String ownerUsername) throws SQLException {
+        List<TurfOwnerDashboard.Turf> turfs = new ArrayList<>();
+        try (Connection conn = DBConnection.getReadConnection(ownerUsername);
+             PreparedStatement pst = conn.prepareStatement(SELECT_OWNER_TURFS_SQL)) {
+            pst.setString(1, ownerUsername);
+            try (ResultSet rs = pst.executeQuery()) {
+                while (rs.next()) {
+                    turfs.add(new TurfOwnerDashboard.Turf(
+                        String.valueOf(rs.getInt("id")),
+                        rs.getString("name"),
+                        rs.getString("address"),
+                        rs.getDouble("hourly_rate")));
+                }
+            }
+        }
+        return turfs;
+    }
+
+    /** All-time booking count and income per turf for the owner, from its stats snapshot. */
+    public static List<TurfStats> loadTurfStats(String ownerUsername) throws SQLException {
+        return OwnerStatsSnapshot.loadTurfStats(ownerUsername);
+    }
+
+    /**
+     * Booking count and income per turf for bookings dated within [from, to] (inclusive).
+     * A null bound leaves that side of the range open. Turfs without bookings in the
+     * range are omitted. Aggregates every matching booking; see loadTurfStats(owner)
+     * for the snapshot-backed all-time totals.
+     */
+    public static List<TurfStats> loadTurfStats(String ownerUsername, LocalDate from, LocalDate to) throws SQLException {
+        List<TurfStats> stats = new ArrayList<>();
+        try (Connection conn = DBConnection.getReadConnection(ownerUsername);
+             PreparedStatement pst = conn.prepareStatement(SELECT_TURF_STATS_SQL)) {
+            pst.setString(1, ownerUsername);
+            pst.setDate(2, Date.valueOf(from != null ? from : MIN_DATE));
+            pst.setDate(3, Date.valueOf(to != null ? to : MAX_DATE));
+            try (ResultSet rs = pst.executeQuery()) {
+                while (rs.next()) {
+                    stats.add(new TurfStats(
+                        String.valueOf(rs.getInt("turf_id")),
+                        rs.getInt("bookings"),
+                        rs.getDouble("income")));
+                }
+            }
+        }
+        return stats;
+    }
+}
@@ -0,0 +1,272 @@
+package turf;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.zip.CRC32;
+
+/**
+ * Snapshot of an owner's all-time per-turf booking totals, so opening the dashboard does not
+ * aggregate every booking the owner ever had. A snapshot holds the totals of the bookings with
+ * id up to its high-water id; an open loads it and aggregates in SQL only the bookings above
+ * that id (a GROUP BY over a primary-key range), then moves the snapshot forward. The database stays the source of truth, so bookings made by
+ * other clients or the HTTP service are counted; a missing or corrupt snapshot is rebuilt.
+ *
+ * Ids are allocated at insert but become visible at commit, so a booking can commit after one
+ * with a higher id (a bulk import commits turf.import.chunkSize rows at a time). The
+ * high-water id therefore stays turf.statsSnapshot.lagIds below the highest id seen, and
+ * bookings above it are aggregated on every open instead of being frozen into the snapshot.
+ * Raise it with the import chunk size, or when several imports run at once.
+ *
+ * The app never updates or deletes bookings or moves turfs between owners; anything that does
+ * must discard() the owners' snapshots.
+ *
+ * File layout (turf.statsSnapshot.dir/stats-owner.snapshot): int magic, long high-water id,
+ * int turf count, per turf [int turf id, int bookings, double income], then a CRC32 of all of
+ * that. Files are read through a mapping of their exact size (16 bytes per turf) and replaced
+ * atomically.
+ *
+ * Settings (system properties):
+ *   turf.statsSnapshot.dir      directory for snapshot files, default turf-data
+ *   turf.statsSnapshot.lagIds   booking ids kept out of the snapshot, default two import chunks (2000)
+ */
+public final class OwnerStatsSnapshot {
+
+    private static final int MAGIC = 0x54555253; // "TURS"
+    private static final int HEADER_BYTES = 4 + 8 + 4;
+    private static final int TURF_BYTES = 4 + 4 + 8;
+    private static final int CRC_BYTES = 4;
+    private static final long LAG_IDS = Long.getLong("turf.statsSnapshot.lagIds", 2L * BulkImporter.DEFAULT_CHUNK_SIZE);
+
+    private static final String SELECT_MAX_BOOKING_ID_SQL = "SELECT COALESCE(MAX(id), 0) FROM bookings";
+
+    private static final String SELECT_OWNER_TURF_IDS_SQL = "SELECT id FROM turfs WHERE owner_username = ?";
+
+    // First build: driven by the owner's turfs, like OwnerAnalyticsRepository's GROUP BY
+    private static final String SELECT_OWNER_TOTALS_UP_TO_ID_SQL =
+        "SELECT b.turf_id, COUNT(*) AS bookings, COALESCE(SUM(b.total_cost), 0) AS income "
+        + "FROM bookings b JOIN turfs t ON t.id = b.turf_id "
+        + "WHERE t.owner_username = ? AND b.id <= ? "
+        + "GROUP BY b.turf_id";
+
+    // Bookings after the snapshot: a primary-key range over every owner's bookings, since
+    // filtering by owner in SQL makes the planner walk all of the owner's bookings instead
+    private static final String SELECT_TOTALS_BETWEEN_IDS_SQL =
+        "SELECT turf_id, COUNT(*) AS bookings, COALESCE(SUM(total_cost), 0) AS income "
+        + "FROM bookings WHERE id > ? AND id <= ? "
+        + "GROUP BY turf_id";
+
+    private static final LatencyHistogram OPEN_TIME = Metrics.histogram("dashboard.statsSnapshot.open");
+
+    /** One turf's running totals while a snapshot and its tail are merged. */
+    private static final class Totals {
+        int bookings;
+        double income;
+    }
+
+    private OwnerStatsSnapshot() {}
+
+    /** The snapshot file for an owner, under turf.statsSnapshot.dir. */
+    static Path fileFor(String owner) {
+        String safeName = owner.replaceAll("[^A-Za-z0-9._-]", "_");
+        return Paths.get(System.getProperty("turf.statsSnapshot.dir", "turf-data"), "stats-" + safeName + ".snapshot");
+    }
+
+    /** Deletes the owner's snapshot; the next load rebuilds it from the database. */
+    public static void discard(String owner) throws IOException {
+        Files.deleteIfExists(fileFor(owner));
+    }
+
+    /**
+     * All-time booking count and income per turf for the owner (turfs without bookings are
+     * omitted), from the snapshot plus the bookings after it. Writes the moved-forward
+     * snapshot. Blocking.
+     */
+    public static List<OwnerAnalyticsRepository.TurfStats> loadTurfStats(String owner) throws SQLException {
+        return loadTurfStats(owner, LAG_IDS);
+    }
+
+    /** loadTurfStats(owner) keeping the given number of newest booking ids out of the snapshot. */
+    static List<OwnerAnalyticsRepository.TurfStats> loadTurfStats(String owner, long lagIds) throws SQLException {
+        long start = System.nanoTime();
+        Path file = fileFor(owner);
+        Map<Integer, Totals> totals = new LinkedHashMap<>();
+        long highWater = read(file, totals);
+
+        Map<Integer, Totals> recent = new LinkedHashMap<>();
+        long settledTo;
+        try (Connection conn = DBConnection.getReadConnection(owner)) {
+            settledTo = Math.max(highWater, maxBookingId(conn) - lagIds);
+            Set<Integer> turfIds = ownerTurfIds(conn, owner);
+            if (highWater == 0) {
+                addOwnerTotals(conn, owner, settledTo, totals);
+            } else if (settledTo > highWater) {
+                addTotals(conn, turfIds, highWater, settledTo, totals);
+            }
+            addTotals(conn, turfIds, settledTo, Long.MAX_VALUE, recent);
+        }
+        if (settledTo > highWater) {
+            write(file, settledTo, totals);
+        }
+
+        List<OwnerAnalyticsRepository.TurfStats> stats = new ArrayList<>(totals.size() + recent.size());
+        for (Map.Entry<Integer, Totals> entry : recent.entrySet()) {
+            Totals turf = totals.computeIfAbsent(entry.getKey(), id -> new Totals());
+            turf.bookings += entry.getValue().bookings;
+            turf.income += entry.getValue().income;
+        }
+        for (Map.Entry<Integer, Totals> entry : totals.entrySet()) {
+            stats.add(new OwnerAnalyticsRepository.TurfStats(String.valueOf(entry.getKey()), entry.getValue().bookings, entry.getValue().income));
+        }
+        Metrics.recordSince(OPEN_TIME, start);
+        return stats;
+    }
+
+    // --- Database ---
+
+    private static long maxBookingId(Connection conn) throws SQLException {
+        try (PreparedStatement pst = conn.prepareStatement(SELECT_MAX_BOOKING_ID_SQL);
+             ResultSet rs = pst.executeQuery()) {
+            return rs.next() ? rs.getLong(1) : 0;
+        }
+    }
+
+    private static Set<Integer> ownerTurfIds(Connection conn, String owner) throws SQLException {
+        Set<Integer> turfIds = new HashSet<>();
+        try (PreparedStatement pst = conn.prepareStatement(SELECT_OWNER_TURF_IDS_SQL)) {
+            pst.setString(1, owner);
+            try (ResultSet rs = pst.executeQuery()) {
+                while (rs.next()) {
+                    turfIds.add(rs.getInt(1));
+                }
+            }
+        }
+        return turfIds;
+    }
+
+    /** Adds the owner's per-turf totals over bookings with id <= upToId. */
+    private static void addOwnerTotals(Connection conn, String owner, long upToId, Map<Integer, Totals> totals) throws SQLException {
+        try (PreparedStatement pst = conn.prepareStatement(SELECT_OWNER_TOTALS_UP_TO_ID_SQL)) {
+            pst.setString(1, owner);
+            pst.setLong(2, upToId);
+            try (ResultSet rs = pst.executeQuery()) {
+                add(rs, null, totals);
+            }
+        }
+    }
+
+    /** Adds per-turf totals over bookings with afterId < id <= upToId, for the given turfs only. */
+    private static void addTotals(Connection conn, Set<Integer> turfIds, long afterId, long upToId, Map<Integer, Totals> totals) throws SQLException {
+        try (PreparedStatement pst = conn.prepareStatement(SELECT_TOTALS_BETWEEN_IDS_SQL)) {
+            pst.setLong(1, afterId);
+            pst.setLong(2, upToId);
+            try (ResultSet rs = pst.executeQuery()) {
+                add(rs, turfIds, totals);
+            }
+        }
+    }
+
+    private static void add(ResultSet rs, Set<Integer> turfIds, Map<Integer, Totals> totals) throws SQLException {
+        while (rs.next()) {
+            int turfId = rs.getInt("turf_id");
+            if (turfIds == null || turfIds.contains(turfId)) {
+                Totals turf = totals.computeIfAbsent(turfId, id -> new Totals());
+                turf.bookings += rs.getInt("bookings");
+                turf.income += rs.getDouble("income");
+            }
+        }
+    }
+
+    // --- Snapshot file ---
+
+    /** Loads the snapshot into totals and returns its high-water id; 0 and no totals if there is no usable one. */
+    private static long read(Path file, Map<Integer, Totals> totals) {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < HEADER_BYTES + CRC_BYTES || size > Integer.MAX_VALUE) {
+                throw new IOException("bad size " + size);
+            }
+            MappedByteBuffer map = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            int turfCount = map.getInt(4 + 8);
+            if (map.getInt(0) != MAGIC || turfCount < 0 || size != HEADER_BYTES + (long) turfCount * TURF_BYTES + CRC_BYTES) {
+                throw new IOException("not a snapshot of the expected size");
+            }
+            CRC32 crc = new CRC32();
+            crc.update(map.duplicate().limit((int) size - CRC_BYTES));
+            if ((int) crc.getValue() != map.getInt((int) size - CRC_BYTES)) {
+                throw new IOException("checksum mismatch");
+            }
+            long highWater = map.getLong(4);
+            map.position(HEADER_BYTES);
+            for (int i = 0; i < turfCount; i++) {
+                Totals turf = new Totals();
+                int turfId = map.getInt();
+                turf.bookings = map.getInt();
+                turf.income = map.getDouble();
+                totals.put(turfId, turf);
+            }
+            return highWater;
+        } catch (NoSuchFileException e) {
+            return 0; // first open for this owner
+        } catch (IOException e) {
+            System.err.println("Ignoring unreadable stats snapshot " + file + " (" + e.getMessage() + "); rebuilding it");
+            totals.clear();
+            return 0;
+        }
+    }
+
+    /**
+     * Writes the snapshot to a temporary file of exactly its size and moves it over the old
+     * one. A failure is only logged: the next load aggregates from the older high-water id.
+     */
+    private static void write(Path file, long highWater, Map<Integer, Totals> totals) {
+        Path temp = null;
+        try {
+            Files.createDirectories(file.toAbsolutePath().getParent());
+            ByteBuffer buffer = ByteBuffer.allocate(HEADER_BYTES + totals.size() * TURF_BYTES + CRC_BYTES);
+            buffer.putInt(MAGIC).putLong(highWater).putInt(totals.size());
+            for (Map.Entry<Integer, Totals> entry : totals.entrySet()) {
+                buffer.putInt(entry.getKey()).putInt(entry.getValue().bookings).putDouble(entry.getValue().income);
+            }
+            CRC32 crc = new CRC32();
+            crc.update(buffer.array(), 0, buffer.position());
+            buffer.putInt((int) crc.getValue());
+            buffer.flip();
+
+            temp = Files.createTempFile(file.toAbsolutePath().getParent(), file.getFileName().toString(), ".tmp");
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+                channel.force(false);
+            }
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            System.err.println("Could not write stats snapshot " + file + ": " + e.getMessage());
+            if (temp != null) {
+                try {
+                    Files.deleteIfExists(temp);
+                } catch (IOException ignored) {
+                    // left for the next cleanup of the directory
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,330 @@
+package turf;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import javax.swing.table.AbstractTableModel;
+
+/**
+ * Table model for the owner dashboard: every turf the owner has, filtered by a search
+ * string, sorted by any column, and shown one page at a time, so the JTable only ever
+ * lays out and renders a page of rows however many turfs a chain operator has.
+ *
+ * Bookings and income are cached per turf in arrays parallel to the turf list. They are
+ * filled in the background by refreshMetrics() and read in O(1) by the table and the
+ * detail view; until they arrive the metric cells show "…".
+ *
+ * Not thread-safe: use it on the EDT, like any Swing model.
+ */
+public class OwnerTurfTableModel extends AbstractTableModel {
+
+    public static final int NAME = 0;
+    public static final int LOCATION = 1;
+    public static final int RATE = 2;
+    public static final int BOOKINGS = 3;
+    public static final int INCOME = 4;
+
+    public static final int DEFAULT_PAGE_SIZE = Integer.getInteger("turf.dashboard.pageSize", 50);
+
+    private static final String[] COLUMNS = {"Turf", "Location", "Rate (Rs.)", "Bookings", "Income (Rs.)"};
+    private static final LatencyHistogram VIEW_TIME = Metrics.histogram("ui.dashboard.sortFilter");
+    private static final LatencyHistogram METRICS_TIME = Metrics.histogram("ui.dashboard.metrics");
+
+    private final int pageSize;
+
+    // All turfs in load order; searchText and the metric caches share their index (the caches
+    // grow by doubling, so they can be longer than the list)
+    private final List<TurfOwnerDashboard.Turf> turfs = new ArrayList<>();
+    private final List<String> searchText = new ArrayList<>();
+    private int[] bookings = new int[0];
+    private double[] income = new double[0];
+    private boolean metricsReady;
+    private long metricsGeneration; // bumped on every change, so a stale background result is dropped
+    private boolean refreshPending;
+
+    // Filtered and sorted turf indexes in view[0, viewSize); the current page is view[page * pageSize, ...)
+    private int[] view = new int[0];
+    private int viewSize;
+    private int page;
+    private int sortColumn = -1;
+    private boolean descending;
+    private String filter = "";
+
+    public OwnerTurfTableModel() {
+        this(DEFAULT_PAGE_SIZE);
+    }
+
+    public OwnerTurfTableModel(int pageSize) {
+        if (pageSize <= 0) {
+            throw new IllegalArgumentException("pageSize must be positive: " + pageSize);
+        }
+        this.pageSize = pageSize;
+    }
+
+    // --- Data ---
+
+    /** Replaces every turf; metrics are unknown until the next refreshMetrics(). */
+    public void setTurfs(List<TurfOwnerDashboard.Turf> newTurfs) {
+        turfs.clear();
+        searchText.clear();
+        for (TurfOwnerDashboard.Turf turf : newTurfs) {
+            turfs.add(turf);
+            searchText.add(searchTextOf(turf));
+        }
+        bookings = new int[turfs.size()];
+        income = new double[turfs.size()];
+        metricsReady = false;
+        metricsGeneration++;
+        page = 0;
+        applyView();
+    }
+
+    /**
+     * Adds one turf, taking its metrics straight from aggregates (a single O(1) lookup), and
+     * slots it into the sorted view with a binary search instead of re-sorting every turf.
+     */
+    public void addTurf(TurfOwnerDashboard.Turf turf, BookingAggregates aggregates) {
+        int index = turfs.size();
+        turfs.add(turf);
+        searchText.add(searchTextOf(turf));
+        if (index >= bookings.length) {
+            int capacity = Math.max(16, index * 2);
+            bookings = Arrays.copyOf(bookings, capacity);
+            income = Arrays.copyOf(income, capacity);
+        }
+        bookings[index] = aggregates.bookings(turf.id);
+        income[index] = aggregates.income(turf.id);
+        metricsGeneration++; // a refresh in flight was computed without this turf
+        insertIntoView(index);
+        if (!metricsReady || refreshPending) {
+            refreshMetrics(aggregates); // redo the dropped refresh, now including this turf
+        }
+    }
+
+    /**
+     * Recomputes every turf's bookings and income from aggregates on the data-access
+     * executor and swaps the cached values in on the EDT. Call after the aggregates change.
+     */
+    public void refreshMetrics(BookingAggregates aggregates) {
+        long generation = ++metricsGeneration;
+        refreshPending = true;
+        String[] turfIds = new String[turfs.size()];
+        for (int i = 0; i < turfIds.length; i++) {
+            turfIds[i] = turfs.get(i).id;
+        }
+        AsyncDataAccess.onEdt(
+            AsyncDataAccess.supplyAsync(() -> computeMetrics(turfIds, aggregates)),
+            metrics -> {
+                if (generation == metricsGeneration) {
+                    refreshPending = false;
+                    installMetrics(metrics);
+                }
+            },
+            error -> {
+                if (generation == metricsGeneration) {
+                    refreshPending = false;
+                }
+                System.err.println("Could not compute turf metrics: " + error.getMessage());
+            });
+    }
+
+    /** Bookings and income per turf, at the same index as the turf ids they were computed for. */
+    static final class TurfMetrics {
+        final int[] bookings;
+        final double[] income;
+
+        TurfMetrics(int[] bookings, double[] income) {
+            this.bookings = bookings;
+            this.income = income;
+        }
+    }
+
+    /** Looks every turf up in aggregates. Blocking; runs off the EDT. */
+    static TurfMetrics computeMetrics(String[] turfIds, BookingAggregates aggregates) {
+        long start = System.nanoTime();
+        int[] bookingCounts = new int[turfIds.length];
+        double[] incomes = new double[turfIds.length];
+        for (int i = 0; i < turfIds.length; i++) {
+            bookingCounts[i] = aggregates.bookings(turfIds[i]);
+            incomes[i] = aggregates.income(turfIds[i]);
+        }
+        Metrics.recordSince(METRICS_TIME, start);
+        return new TurfMetrics(bookingCounts, incomes);
+    }
+
+    /** Installs metrics computed by computeMetrics() for the current turf list. */
+    void installMetrics(TurfMetrics metrics) {
+        bookings = metrics.bookings;
+        income = metrics.income;
+        metricsReady = true;
+        if (sortColumn == BOOKINGS || sortColumn == INCOME) {
+            applyView(); // the order depended on values that were not there yet
+        } else {
+            fireTableDataChanged();
+        }
+    }
+
+    public boolean isMetricsReady() { return metricsReady; }
+
+    // --- Filtering, sorting and paging ---
+
+    /** Shows only turfs whose id, name or location contains text (case-insensitive); back to page 1. */
+    public void setFilter(String text) {
+        String normalized = text == null ? "" : text.trim().toLowerCase(Locale.ROOT);
+        if (normalized.equals(filter)) {
+            return;
+        }
+        filter = normalized;
+        page = 0;
+        applyView();
+    }
+
+    /** Sorts by column: a new column starts with the largest metric or A-Z first, the same column flips. */
+    public void toggleSort(int column) {
+        if (column == sortColumn) {
+            descending = !descending;
+        } else {
+            sortColumn = column;
+            descending = column == BOOKINGS || column == INCOME;
+        }
+        page = 0;
+        applyView();
+    }
+
+    public int getSortColumn() { return sortColumn; }
+    public boolean isDescending() { return descending; }
+
+    public void setPage(int newPage) {
+        int clamped = Math.max(0, Math.min(newPage, getPageCount() - 1));
+        if (clamped != page) {
+            page = clamped;
+            fireTableDataChanged();
+        }
+    }
+
+    public int getPage() { return page; }
+    public int getPageCount() { return Math.max(1, (viewSize + pageSize - 1) / pageSize); }
+    public int getMatchCount() { return viewSize; }
+    public int getTurfCount() { return turfs.size(); }
+
+    /** Adds turf index to the view at its sorted position, if it matches the filter. */
+    private void insertIntoView(int index) {
+        if (!filter.isEmpty() && !searchText.get(index).contains(filter)) {
+            return;
+        }
+        long start = System.nanoTime();
+        int position = viewSize; // unsorted: load order, and index is the newest turf
+        if (sortColumn >= 0) {
+            Comparator<Integer> order = viewOrder();
+            int low = 0;
+            int high = viewSize;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (order.compare(view[mid], index) < 0) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            position = low;
+        }
+        if (viewSize == view.length) {
+            view = Arrays.copyOf(view, Math.max(16, viewSize * 2));
+        }
+        System.arraycopy(view, position, view, position + 1, viewSize - position);
+        view[position] = index;
+        viewSize++;
+        Metrics.recordSince(VIEW_TIME, start);
+        fireTableDataChanged();
+    }
+
+    /** Rebuilds the filtered, sorted index over every turf. */
+    private void applyView() {
+        long start = System.nanoTime();
+        int[] matches = new int[turfs.size()];
+        int count = 0;
+        for (int i = 0; i < matches.length; i++) {
+            if (filter.isEmpty() || searchText.get(i).contains(filter)) {
+                matches[count++] = i;
+            }
+        }
+        if (sortColumn >= 0 && count > 1) {
+            Integer[] order = new Integer[count];
+            for (int i = 0; i < count; i++) {
+                order[i] = matches[i];
+            }
+            Arrays.sort(order, viewOrder());
+            for (int i = 0; i < count; i++) {
+                matches[i] = order[i];
+            }
+        }
+        view = matches;
+        viewSize = count;
+        page = Math.min(page, getPageCount() - 1);
+        Metrics.recordSince(VIEW_TIME, start);
+        fireTableDataChanged();
+    }
+
+    /** Order of turf indexes in the view: by the sort column, ties in load order in both directions. */
+    private Comparator<Integer> viewOrder() {
+        Comparator<Integer> comparator = comparatorFor(sortColumn);
+        return (descending ? comparator.reversed() : comparator).thenComparingInt(i -> i);
+    }
+
+    private Comparator<Integer> comparatorFor(int column) {
+        switch (column) {
+            case NAME: return Comparator.comparing(i -> turfs.get(i).name, String.CASE_INSENSITIVE_ORDER);
+            case LOCATION: return Comparator.comparing(i -> turfs.get(i).location, String.CASE_INSENSITIVE_ORDER);
+            case RATE: return Comparator.comparingDouble(i -> turfs.get(i).hourlyRate);
+            case BOOKINGS: return Comparator.comparingInt(i -> bookings[i]);
+            case INCOME: return Comparator.comparingDouble(i -> income[i]);
+            default: throw new IllegalArgumentException("No such column: " + column);
+        }
+    }
+
+    private static String searchTextOf(TurfOwnerDashboard.Turf turf) {
+        return (turf.id + "\n" + turf.name + "\n" + turf.location).toLowerCase(Locale.ROOT);
+    }
+
+    // --- Rows on the current page ---
+
+    private int turfIndex(int row) {
+        return view[page * pageSize + row];
+    }
+
+    public TurfOwnerDashboard.Turf getTurfAt(int row) { return turfs.get(turfIndex(row)); }
+    public int getBookingsAt(int row) { return bookings[turfIndex(row)]; }
+    public double getIncomeAt(int row) { return income[turfIndex(row)]; }
+
+    @Override
+    public int getRowCount() {
+        return Math.max(0, Math.min(pageSize, viewSize - page * pageSize));
+    }
+
+    @Override
+    public int getColumnCount() {
+        return COLUMNS.length;
+    }
+
+    /** The column title, with an arrow on the sorted column. */
+    @Override
+    public String getColumnName(int column) {
+        return column == sortColumn ? COLUMNS[column] + (descending ? " ▼" : " ▲") : COLUMNS[column];
+    }
+
+    @Override
+    public Object getValueAt(int row, int column) {
+        int index = turfIndex(row);
+        TurfOwnerDashboard.Turf turf = turfs.get(index);
+        switch (column) {
+            case NAME: return turf.name;
+            case LOCATION: return turf.location;
+            case RATE: return String.format("%,.2f", turf.hourlyRate);
+            case BOOKINGS: return metricsReady ? String.format("%,d", bookings[index]) : "…";
+            case INCOME: return metricsReady ? String.format("%,.2f", income[index]) : "…";
+            default: throw new IllegalArgumentException("No such column: " + column);
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package turf;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+import javax.swing.AbstractListModel;
+
+/**
+ * ListModel for the customer turf list that fetches rows page by page.
+ * The view calls ensureLoadedThrough() as the user scrolls; the next page is requested
+ * once the visible rows get within prefetchDistance of the end. Resetting the model
+ * (e.g. on a category switch) cancels any in-flight page so stale rows never arrive.
+ * All methods must be called on the EDT.
+ */
+public class PagedTurfListModel extends AbstractListModel<TurfModel> {
+
+    /** Fetches one page; cursor is null for the first page. */
+    public interface PageLoader {
+        CompletableFuture<TurfPage> load(String cursor, int pageSize);
+    }
+
+    private final int pageSize;
+    private final int prefetchDistance;
+    private final Consumer<TurfPage> onPageLoaded;
+    private final Consumer<Throwable> onError;
+
+    private final List<TurfModel> rows = new ArrayList<>();
+    private final AsyncDataAccess.LatestRequest<TurfPage> pageRequest = new AsyncDataAccess.LatestRequest<>();
+    private PageLoader loader;
+    private String nextCursor;
+    private boolean hasMore = false;
+    private boolean firstPageLoaded = false;
+
+    public PagedTurfListModel(int pageSize, int prefetchDistance, Consumer<TurfPage> onPageLoaded, Consumer<Throwable> onError) {
+        this.pageSize = pageSize;
+        this.prefetchDistance = prefetchDistance;
+        this.onPageLoaded = onPageLoaded;
+        this.onError = onError;
+    }
+
+    // --- ListModel ---
+
+    @Override
+    public int getSize() {
+        return rows.size();
+    }
+
+    @Override
+    public TurfModel getElementAt(int index) {
+        return rows.get(index);
+    }
+
+    // --- Paging ---
+
+    /** Drops the current rows and starts loading from the first page of the new source. */
+    public void reset(PageLoader newLoader) {
+        pageRequest.cancel();
+        int oldSize = rows.size();
+        rows.clear();
+        if (oldSize > 0) {
+            fireIntervalRemoved(this, 0, oldSize - 1);
+        }
+        loader = newLoader;
+        nextCursor = null;
+        hasMore = true;
+        firstPageLoaded = false;
+        loadNextPage();
+    }
+
+    /** Requests the next page if lastVisibleIndex is close to the end of the loaded rows. */
+    public void ensureLoadedThrough(int lastVisibleIndex) {
+        if (lastVisibleIndex >= rows.size() - prefetchDistance) {
+            loadNextPage();
+        }
+    }
+
+    /** Cancels the in-flight page, if any (e.g. on logout). */
+    public void cancel() {
+        pageRequest.cancel();
+    }
+
+    public boolean isLoading() { return pageRequest.isPending(); }
+    public boolean hasMore() { return hasMore; }
+    public boolean isFirstPageLoaded() { return firstPageLoaded; }
+
+    private void loadNextPage() {
+        if (loader == null || !hasMore || pageRequest.isPending()) {
+            return;
+        }
+        PageLoader requestLoader = loader;
+        String cursor = nextCursor;
+        pageRequest.submit(
+            () -> requestLoader.load(cursor, pageSize),
+            page -> {
+                int start = rows.size();
+                rows.addAll(page.getTurfs());
+                nextCursor = page.getNextCursor();
+                hasMore = page.hasMore();
+                firstPageLoaded = true;
+                if (rows.size() > start) {
+                    fireIntervalAdded(this, start, rows.size() - 1);
+                }
+                onPageLoaded.accept(page);
+            },
+            error -> {
+                hasMore = false;
+                onError.accept(error);
+            });
+    }
+}
@@ -0,0 +1,120 @@
+package turf;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.Arrays;
+import java.util.Base64;
+import javax.crypto.SecretKeyFactory;
+import javax.crypto.spec.PBEKeySpec;
+
+/**
+ * Salted PBKDF2 (HMAC-SHA256) password hashing.
+ * Hashes are stored as "pbkdf2-sha256$iterations$salt$hash" (Base64), so the cost can be
+ * raised later without invalidating existing hashes: needsRehash() flags old ones for
+ * upgrade on the next successful login. The default cost comes from
+ * turf.password.iterations; calibrate() picks a cost for a given latency budget.
+ */
+public final class PasswordHasher {
+
+    private static final String ALGORITHM = "PBKDF2WithHmacSHA256";
+    private static final String PREFIX = "pbkdf2-sha256";
+    private static final int SALT_BYTES = 16;
+    private static final int KEY_BITS = 256;
+    private static final int MIN_ITERATIONS = 10_000;
+
+    public static final int DEFAULT_ITERATIONS = Math.max(MIN_ITERATIONS, Integer.getInteger("turf.password.iterations", 120_000));
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    private PasswordHasher() {}
+
+    /** Hashes with a fresh random salt at the default cost. */
+    public static String hash(char[] password) {
+        return hash(password, DEFAULT_ITERATIONS);
+    }
+
+    public static String hash(char[] password, int iterations) {
+        byte[] salt = new byte[SALT_BYTES];
+        RANDOM.nextBytes(salt);
+        byte[] derived = derive(password, salt, iterations);
+        Base64.Encoder b64 = Base64.getEncoder().withoutPadding();
+        return PREFIX + "$" + iterations + "$" + b64.encodeToString(salt) + "$" + b64.encodeToString(derived);
+    }
+
+    /**
+     * Checks a password against a stored value in constant time. Stored values that are
+     * not in the hash format are treated as legacy plaintext passwords.
+     */
+    public static boolean verify(char[] password, String stored) {
+        if (stored == null) {
+            return false;
+        }
+        if (!isHashed(stored)) {
+            return MessageDigest.isEqual(new String(password).getBytes(StandardCharsets.UTF_8), stored.getBytes(StandardCharsets.UTF_8));
+        }
+        String[] parts = stored.split("\\$");
+        if (parts.length != 4) {
+            return false;
+        }
+        try {
+            int iterations = Integer.parseInt(parts[1]);
+            byte[] salt = Base64.getDecoder().decode(parts[2]);
+            byte[] expected = Base64.getDecoder().decode(parts[3]);
+            return MessageDigest.isEqual(expected, derive(password, salt, iterations));
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    public static boolean isHashed(String stored) {
+        return stored != null && stored.startsWith(PREFIX + "$");
+    }
+
+    /** True for legacy plaintext values and hashes made with a different cost than the default. */
+    public static boolean needsRehash(String stored) {
+        if (!isHashed(stored)) {
+            return true;
+        }
+        String[] parts = stored.split("\\$");
+        return parts.length != 4 || !parts[1].equals(String.valueOf(DEFAULT_ITERATIONS));
+    }
+
+    /**
+     * Returns the highest iteration count (in steps of 10k) whose hash time on this machine
+     * stays within targetMillis. Use it to tune turf.password.iterations against a login budget.
+     */
+    public static int calibrate(long targetMillis) {
+        char[] sample = "calibration-password".toCharArray();
+        byte[] salt = new byte[SALT_BYTES];
+        derive(sample, salt, MIN_ITERATIONS); // warm up the JCA provider
+        long start = System.nanoTime();
+        derive(sample, salt, 100_000);
+        double nanosPerIteration = (System.nanoTime() - start) / 100_000.0;
+        int iterations = (int) (targetMillis * 1_000_000L / nanosPerIteration);
+        return Math.max(MIN_ITERATIONS, iterations / 10_000 * 10_000);
+    }
+
+    private static byte[] derive(char[] password, byte[] salt, int iterations) {
+        PBEKeySpec spec = new PBEKeySpec(password, salt, iterations, KEY_BITS);
+        try {
+            return SecretKeyFactory.getInstance(ALGORITHM).generateSecret(spec).getEncoded();
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(ALGORITHM + " is not available in this JVM.", e);
+        } finally {
+            spec.clearPassword();
+        }
+    }
+
+    /** Wipes a password buffer once it is no longer needed. */
+    static void clear(char[] chars) {
+        Arrays.fill(chars, '\0');
+    }
+
+    /** Prints the suggested cost for a latency budget: java PasswordHasher [targetMillis]. */
+    public static void main(String[] args) {
+        long target = args.length > 0 ? Long.parseLong(args[0]) : 100;
+        System.out.println("Suggested -Dturf.password.iterations for " + target + " ms: " + calibrate(target));
+    }
+}
@@ -0,0 +1,151 @@
+package turf;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Background warm-up started right after a customer logs in, so the first clicks are
+ * served from memory: the first page of every category (nearest to the one on screen
+ * first) goes into TurfService's page cache, and each prefetched turf is registered with
+ * SlotAvailability, has the coming week's bookings loaded from the database (one query per
+ * page) and is priced for that week, which is what the booking form reads.
+ *
+ * At most turf.prefetch.concurrency tasks (default 2) run at once on the shared
+ * data-access executor, so the warm-up never crowds out requests the user makes.
+ * Logging out cancels whatever is queued or running.
+ */
+public class Prefetcher {
+
+    private static final int MAX_CONCURRENT = Math.max(1, Integer.getInteger("turf.prefetch.concurrency", 2));
+    private static final LatencyHistogram TASK_TIME = Metrics.histogram("prefetch.task");
+    private static final LongAdder TASKS_FAILED = Metrics.counter("prefetch.failed");
+
+    private static volatile Prefetcher current;
+
+    private final Semaphore permits = new Semaphore(MAX_CONCURRENT);
+    private final Queue<Callable<?>> queue = new ConcurrentLinkedQueue<>();
+    private final Queue<CompletableFuture<?>> running = new ConcurrentLinkedQueue<>();
+    private final LongAdder completed = new LongAdder();
+    private volatile boolean cancelled;
+
+    /**
+     * Cancels any earlier warm-up and starts prefetching the categories' first pages
+     * (pageSize turfs, the same key the turf list asks for), nearest to currentCategory first.
+     */
+    public static Prefetcher start(String currentCategory, String[] categories, int pageSize) {
+        cancelCurrent();
+        Prefetcher prefetcher = new Prefetcher();
+        int origin = Math.max(0, Arrays.asList(categories).indexOf(currentCategory));
+        // Neighbours outward from the category on screen; that category itself last, as the
+        // screen is already loading it and the prefetch then just picks the cached page up
+        List<String> order = new ArrayList<>();
+        for (int distance = 1; distance < categories.length; distance++) {
+            if (origin + distance < categories.length) {
+                order.add(categories[origin + distance]);
+            }
+            if (origin - distance >= 0) {
+                order.add(categories[origin - distance]);
+            }
+        }
+        order.add(categories[origin]);
+        for (String category : order) {
+            prefetcher.queue.add(() -> prefetcher.warmCategory(category, pageSize));
+        }
+        current = prefetcher;
+        prefetcher.pump();
+        return prefetcher;
+    }
+
+    /** Stops the running warm-up, if any (e.g. on logout). */
+    public static void cancelCurrent() {
+        Prefetcher prefetcher = current;
+        current = null;
+        if (prefetcher != null) {
+            prefetcher.cancel();
+        }
+    }
+
+    public void cancel() {
+        cancelled = true;
+        queue.clear();
+        CompletableFuture<?> task;
+        while ((task = running.poll()) != null) {
+            task.cancel(true);
+        }
+    }
+
+    public boolean isCancelled() { return cancelled; }
+    public long getCompletedCount() { return completed.sum(); }
+
+    /** True once every queued task has finished (or the warm-up was cancelled). */
+    public boolean isDone() {
+        return cancelled || (queue.isEmpty() && permits.availablePermits() == MAX_CONCURRENT);
+    }
+
+    // --- Tasks ---
+
+    private Void warmCategory(String category, int pageSize) throws Exception {
+        TurfPage page = TurfService.getTurfPage(category, null, pageSize);
+        List<TurfModel> turfs = page.getTurfs();
+        if (turfs.isEmpty() || cancelled) {
+            return null;
+        }
+        int[] turfIds = new int[turfs.size()];
+        double[] baseRates = new double[turfs.size()];
+        for (int i = 0; i < turfs.size(); i++) {
+            TurfModel turf = turfs.get(i);
+            SlotAvailability.shared().registerTurf(turf.getId(), turf.getOperatingHours());
+            turfIds[i] = turf.getId();
+            baseRates[i] = turf.getPricePerHour();
+        }
+        // Demand pricing counts the week's bookings from the database, then the booking form's
+        // slot prices come from these per-day quotes
+        LocalDate today = LocalDate.now();
+        BookingService.loadBookedSlots(turfIds, today, 7);
+        if (cancelled) {
+            return null;
+        }
+        PricingEngine.shared().quoteWeek(turfIds, baseRates, today);
+        return null;
+    }
+
+    /** Starts queued tasks while permits are free; each finished task frees its permit and pumps again. */
+    private void pump() {
+        while (!cancelled && permits.tryAcquire()) {
+            Callable<?> task = queue.poll();
+            if (task == null) {
+                permits.release();
+                if (queue.isEmpty()) {
+                    return;
+                }
+                continue; // a task was queued between poll() and release()
+            }
+            long start = System.nanoTime();
+            CompletableFuture<?> future = AsyncDataAccess.supplyAsync(task);
+            running.add(future);
+            if (cancelled) {
+                future.cancel(true); // cancel() may have drained `running` just before the add
+            }
+            future.whenComplete((result, error) -> {
+                running.remove(future);
+                Metrics.recordSince(TASK_TIME, start);
+                if (error == null) {
+                    completed.increment();
+                } else if (!cancelled) {
+                    TASKS_FAILED.increment();
+                    System.err.println("Prefetch failed: " + AsyncDataAccess.unwrap(error).getMessage());
+                }
+                permits.release();
+                pump();
+            });
+        }
+    }
+}
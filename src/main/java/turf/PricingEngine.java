@@ -0,0 +1,291 @@
+package turf;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Per-slot prices derived from a turf's base rate (TurfModel.pricePerHour):
+ *
+ *   price = base x hour factor x day factor x demand factor, capped at base x max multiplier
+ *
+ * The hour factor comes from peak and off-peak hour ranges, the day factor is higher on
+ * weekends, and the demand factor grows with the share of the turf's open slots already
+ * booked that day (from SlotAvailability). Callers load the database's bookings into
+ * SlotAvailability first (BookingService.loadBookedSlots), so demand counts bookings made
+ * by every client, not just this process. Prices are rounded to whole rupees.
+ *
+ * Settings (system properties):
+ *   turf.pricing.peakHours        start-end hours, default 17-22
+ *   turf.pricing.peakFactor       default 1.25
+ *   turf.pricing.offPeakHours     default 6-15
+ *   turf.pricing.offPeakFactor    default 0.8
+ *   turf.pricing.weekendFactor    default 1.2
+ *   turf.pricing.demandWeight     extra multiplier at full occupancy, default 0.3
+ *   turf.pricing.maxMultiplier    default 2.0
+ *   turf.pricing.cacheSize        cached turf-days, least recently used evicted first, default 50000
+ *
+ * A whole grid (many turfs x 7 days x 24 hours) is priced in one pass over primitive
+ * arrays after taking a single availability snapshot; the inner hour loop is a plain
+ * multiply/min/round over doubles that the JIT vectorises. Day quotes are cached per
+ * (turf, date) and reused, by single quotes and grids alike, for as long as the base rate
+ * and that day's bookings are unchanged.
+ */
+public class PricingEngine {
+
+    public static final int HOURS_PER_WEEK = 7 * SlotAvailability.SLOTS_PER_DAY;
+
+    private static final int HOURS = SlotAvailability.SLOTS_PER_DAY;
+    static final int CACHE_SIZE = Integer.getInteger("turf.pricing.cacheSize", 50_000);
+
+    private static final PricingEngine SHARED = new PricingEngine(SlotAvailability.shared());
+
+    /** The process-wide engine used by the booking form and the HTTP service. */
+    public static PricingEngine shared() {
+        return SHARED;
+    }
+
+    /** One priced turf-day, valid while the inputs it was computed from are unchanged. */
+    private static final class DayQuote {
+        final double baseRate;
+        final int openMask;
+        final int occupiedMask;
+        final double[] prices; // the day's 24 prices, owned by this quote and never modified
+
+        DayQuote(double baseRate, int openMask, int occupiedMask, double[] prices) {
+            this.baseRate = baseRate;
+            this.openMask = openMask;
+            this.occupiedMask = occupiedMask;
+            this.prices = prices;
+        }
+    }
+
+    /** Prices for a set of turfs over consecutive days; read-only. */
+    public static final class Grid {
+        private final double[] prices;
+        private final int days;
+
+        Grid(double[] prices, int days) {
+            this.prices = prices;
+            this.days = days;
+        }
+
+        public int getDays() { return days; }
+
+        /** Price of the slot starting at hour on day (0 = start date) for the turf at turfIndex. */
+        public double price(int turfIndex, int day, int hour) {
+            return prices[(turfIndex * days + day) * HOURS + hour];
+        }
+
+        /** The 24 hourly prices of one turf-day, as a copy. */
+        public double[] day(int turfIndex, int day) {
+            int offset = (turfIndex * days + day) * HOURS;
+            return Arrays.copyOfRange(prices, offset, offset + HOURS);
+        }
+    }
+
+    private final SlotAvailability availability;
+    private final double[] hourFactors = new double[HOURS];
+    private final double weekendFactor;
+    private final double demandWeight;
+    private final double maxMultiplier;
+    // Access-ordered map gives LRU iteration order; eldest is evicted past CACHE_SIZE. Guarded by itself.
+    private final LinkedHashMap<Long, DayQuote> cache = new LinkedHashMap<Long, DayQuote>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, DayQuote> eldest) {
+            return size() > CACHE_SIZE;
+        }
+    };
+
+    public PricingEngine(SlotAvailability availability) {
+        this.availability = availability;
+        Arrays.fill(hourFactors, 1.0);
+        applyHourFactor(System.getProperty("turf.pricing.offPeakHours", "6-15"), factor("turf.pricing.offPeakFactor", 0.8));
+        applyHourFactor(System.getProperty("turf.pricing.peakHours", "17-22"), factor("turf.pricing.peakFactor", 1.25));
+        this.weekendFactor = factor("turf.pricing.weekendFactor", 1.2);
+        this.demandWeight = factor("turf.pricing.demandWeight", 0.3);
+        this.maxMultiplier = factor("turf.pricing.maxMultiplier", 2.0);
+    }
+
+    // --- Quotes ---
+
+    /** Price of one slot for a turf with the given base rate. */
+    public double quote(int turfId, double baseRate, LocalDate date, int hour) {
+        if (hour < 0 || hour >= HOURS) {
+            throw new IllegalArgumentException("Hour must be 0-23: " + hour);
+        }
+        DayQuote day = dayQuote(turfId, baseRate, date);
+        return day.prices[hour];
+    }
+
+    /** The 24 hourly prices of a turf on a date (index = start hour), as a copy. */
+    public double[] quoteDay(int turfId, double baseRate, LocalDate date) {
+        DayQuote day = dayQuote(turfId, baseRate, date);
+        return day.prices.clone();
+    }
+
+    /** Prices for every turf (baseRates[i] belongs to turfIds[i]) over the 7 days from start. */
+    public Grid quoteWeek(int[] turfIds, double[] baseRates, LocalDate start) {
+        return quoteGrid(turfIds, baseRates, start, 7);
+    }
+
+    /** Prices for every turf over the days from start. Still-valid cached day quotes are copied, not repriced. */
+    public Grid quoteGrid(int[] turfIds, double[] baseRates, LocalDate start, int days) {
+        if (turfIds.length != baseRates.length) {
+            throw new IllegalArgumentException("One base rate per turf is required");
+        }
+        int[] openMasks = new int[turfIds.length];
+        int[] occupiedMasks = new int[turfIds.length * days];
+        availability.snapshot(turfIds, start, days, openMasks, occupiedMasks);
+
+        double[] prices = new double[turfIds.length * days * HOURS];
+        boolean[] reused = new boolean[turfIds.length * days];
+        int repriced = 0;
+        long firstDay = start.toEpochDay();
+        synchronized (cache) {
+            for (int t = 0; t < turfIds.length; t++) {
+                for (int d = 0; d < days; d++) {
+                    int row = t * days + d;
+                    DayQuote cached = cache.get(key(turfIds[t], firstDay + d));
+                    if (isCurrent(cached, baseRates[t], openMasks[t], occupiedMasks[row])) {
+                        System.arraycopy(cached.prices, 0, prices, row * HOURS, HOURS);
+                        reused[row] = true;
+                    } else {
+                        repriced++;
+                    }
+                }
+            }
+        }
+        if (repriced == 0) {
+            return new Grid(prices, days);
+        }
+        price(baseRates, openMasks, occupiedMasks, start, days, prices, reused);
+
+        // Each quote copies its 24 prices, so a cached day never pins the rest of the grid
+        DayQuote[] quotes = new DayQuote[reused.length];
+        for (int row = 0; row < reused.length; row++) {
+            if (!reused[row]) {
+                quotes[row] = new DayQuote(baseRates[row / days], openMasks[row / days], occupiedMasks[row],
+                    Arrays.copyOfRange(prices, row * HOURS, row * HOURS + HOURS));
+            }
+        }
+        synchronized (cache) {
+            for (int row = 0; row < quotes.length; row++) {
+                if (quotes[row] != null) {
+                    cache.put(key(turfIds[row / days], firstDay + row % days), quotes[row]);
+                }
+            }
+        }
+        return new Grid(prices, days);
+    }
+
+    /** Drops every cached quote, e.g. after the pricing settings of a turf change. */
+    public void invalidate() {
+        synchronized (cache) {
+            cache.clear();
+        }
+    }
+
+    /** Number of cached turf-days, at most turf.pricing.cacheSize. */
+    int cachedDays() {
+        synchronized (cache) {
+            return cache.size();
+        }
+    }
+
+    private DayQuote dayQuote(int turfId, double baseRate, LocalDate date) {
+        int[] ids = { turfId };
+        int[] openMask = new int[1];
+        int[] occupiedMask = new int[1];
+        availability.snapshot(ids, date, 1, openMask, occupiedMask);
+
+        DayQuote cached;
+        synchronized (cache) {
+            cached = cache.get(key(turfId, date.toEpochDay()));
+        }
+        if (isCurrent(cached, baseRate, openMask[0], occupiedMask[0])) {
+            return cached;
+        }
+        double[] prices = new double[HOURS];
+        price(new double[] { baseRate }, openMask, occupiedMask, date, 1, prices, null);
+        DayQuote quote = new DayQuote(baseRate, openMask[0], occupiedMask[0], prices);
+        synchronized (cache) {
+            cache.put(key(turfId, date.toEpochDay()), quote);
+        }
+        return quote;
+    }
+
+    private static boolean isCurrent(DayQuote quote, double baseRate, int openMask, int occupiedMask) {
+        return quote != null && quote.baseRate == baseRate && quote.openMask == openMask && quote.occupiedMask == occupiedMask;
+    }
+
+    // --- Pricing kernel ---
+
+    /** Fills out for every turf-day row, except rows marked in skip (null to price them all). */
+    private void price(double[] baseRates, int[] openMasks, int[] occupiedMasks, LocalDate start, int days, double[] out, boolean[] skip) {
+        double[] dayFactors = new double[days];
+        for (int d = 0; d < days; d++) {
+            DayOfWeek dow = start.plusDays(d).getDayOfWeek();
+            dayFactors[d] = dow == DayOfWeek.SATURDAY || dow == DayOfWeek.SUNDAY ? weekendFactor : 1.0;
+        }
+        double[] factors = hourFactors;
+        for (int t = 0; t < baseRates.length; t++) {
+            double base = baseRates[t];
+            double cap = base * maxMultiplier;
+            int open = openMasks[t];
+            int openSlots = Integer.bitCount(open);
+            for (int d = 0; d < days; d++) {
+                int row = t * days + d;
+                if (skip != null && skip[row]) {
+                    continue;
+                }
+                double demand = openSlots == 0 ? 1.0
+                    : 1.0 + demandWeight * Integer.bitCount(occupiedMasks[row] & open) / openSlots;
+                double rowRate = base * dayFactors[d] * demand;
+                int offset = row * HOURS;
+                // Straight-line loop over the hour table: no branches, so C2 emits SIMD code
+                for (int h = 0; h < HOURS; h++) {
+                    out[offset + h] = Math.rint(Math.min(rowRate * factors[h], cap));
+                }
+            }
+        }
+    }
+
+    private static long key(int turfId, long epochDay) {
+        return ((long) turfId << 32) | (epochDay & 0xFFFFFFFFL);
+    }
+
+    // --- Settings ---
+
+    private void applyHourFactor(String range, double factor) {
+        String[] bounds = range.trim().split("\\s*-\\s*");
+        try {
+            int from = Integer.parseInt(bounds[0]);
+            int to = bounds.length > 1 ? Integer.parseInt(bounds[1]) % HOURS : (from + 1) % HOURS;
+            if (from < 0 || from >= HOURS || to < 0) {
+                throw new IllegalArgumentException("hours must be 0-24");
+            }
+            // "17-22" covers the slots starting 17:00 to 21:00; a range like "22-2" wraps past midnight
+            for (int h = from; h != to; h = (h + 1) % HOURS) {
+                hourFactors[h] = factor;
+            }
+        } catch (RuntimeException e) {
+            System.err.println("Ignoring invalid pricing hours '" + range + "': " + e.getMessage());
+        }
+    }
+
+    private static double factor(String key, double defaultValue) {
+        String value = System.getProperty(key);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            return Double.parseDouble(value);
+        } catch (NumberFormatException e) {
+            System.err.println("Ignoring invalid " + key + "=" + value);
+            return defaultValue;
+        }
+    }
+}
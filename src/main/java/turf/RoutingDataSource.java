@@ -0,0 +1,218 @@
+package turf;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Routes connections between a primary database and its read replicas.
+ * Writes always go to the primary. Read-only work goes to a healthy replica, chosen
+ * round-robin or by fewest borrowed connections, unless the caller's session wrote
+ * within the read-your-writes window (replicas may lag), in which case it reads from
+ * the primary too.
+ *
+ * A replica that fails to hand out a connection is marked down at once and the read
+ * fails over to the next replica, then to the primary. A background check probes every
+ * replica on an interval and brings recovered ones back. With no replicas configured
+ * every read simply uses the primary.
+ */
+public class RoutingDataSource {
+
+    public enum Strategy { ROUND_ROBIN, LEAST_LOADED }
+
+    private static final int VALIDATION_TIMEOUT_SECONDS = 2;
+
+    /** One replica and whether it is currently used for reads. */
+    private static final class Replica {
+        final String name;
+        final ConnectionPool pool;
+        volatile boolean healthy = true;
+
+        Replica(String name, ConnectionPool pool) {
+            this.name = name;
+            this.pool = pool;
+        }
+    }
+
+    private final ConnectionPool primary;
+    private final List<Replica> replicas = new ArrayList<>();
+    private final Strategy strategy;
+    private final long readYourWritesNanos;
+    private final AtomicInteger nextReplica = new AtomicInteger();
+    private final Map<String, Long> lastWriteNanos = new ConcurrentHashMap<>();
+    private ScheduledExecutorService healthChecker;
+
+    // --- Metrics ---
+    private final LongAdder primaryReads = Metrics.counter("db.route.primaryReads");
+    private final LongAdder replicaReads = Metrics.counter("db.route.replicaReads");
+    private final LongAdder failovers = Metrics.counter("db.route.failovers");
+
+    /**
+     * @param replicaPools replica name (e.g. its URL) -> pool.
+     * @param readYourWritesMillis how long after a session writes its reads stay on the primary.
+     */
+    public RoutingDataSource(ConnectionPool primary, Map<String, ConnectionPool> replicaPools, Strategy strategy, long readYourWritesMillis) {
+        this.primary = primary;
+        this.strategy = strategy;
+        this.readYourWritesNanos = TimeUnit.MILLISECONDS.toNanos(readYourWritesMillis);
+        replicaPools.forEach((name, pool) -> replicas.add(new Replica(name, pool)));
+        Metrics.gauge("db.route.healthyReplicas", this::getHealthyReplicaCount);
+    }
+
+    // --- Routing ---
+
+    /** A connection to the primary, for writes and anything that must see the latest data. */
+    public Connection getWriteConnection() throws SQLException {
+        return primary.getConnection();
+    }
+
+    /**
+     * A connection for read-only work on behalf of session (e.g. the username; null for
+     * anonymous reads such as browsing the catalog). Callers should not write through it.
+     */
+    public Connection getReadConnection(String session) throws SQLException {
+        if (replicas.isEmpty() || wroteRecently(session)) {
+            primaryReads.increment();
+            return primary.getConnection();
+        }
+        int start = Math.floorMod(nextReplica.getAndIncrement(), replicas.size());
+        for (int attempt = 0; attempt < replicas.size(); attempt++) {
+            Replica replica = pick(start + attempt);
+            if (replica == null) {
+                break;
+            }
+            try {
+                Connection conn = replica.pool.getConnection();
+                replicaReads.increment();
+                return conn;
+            } catch (SQLTimeoutException e) {
+                failovers.increment(); // busy, not broken: try elsewhere but keep it in rotation
+            } catch (SQLException e) {
+                if (e.getCause() instanceof InterruptedException) {
+                    throw e; // the caller was cancelled; not the replica's fault
+                }
+                replica.healthy = false;
+                failovers.increment();
+                System.err.println("Replica " + replica.name + " is unavailable, failing over: " + e.getMessage());
+            }
+        }
+        primaryReads.increment();
+        return primary.getConnection();
+    }
+
+    /** Notes that session just wrote, so its reads go to the primary for the read-your-writes window. */
+    public void recordWrite(String session) {
+        if (session != null && !replicas.isEmpty()) {
+            lastWriteNanos.put(session, System.nanoTime());
+        }
+    }
+
+    private boolean wroteRecently(String session) {
+        if (session == null) {
+            return false;
+        }
+        Long last = lastWriteNanos.get(session);
+        if (last == null) {
+            return false;
+        }
+        if (System.nanoTime() - last < readYourWritesNanos) {
+            return true;
+        }
+        lastWriteNanos.remove(session, last);
+        return false;
+    }
+
+    /** The next healthy replica from offset on: in rotation order, or the least busy one. */
+    private Replica pick(int offset) {
+        Replica best = null;
+        for (int i = 0; i < replicas.size(); i++) {
+            Replica replica = replicas.get((offset + i) % replicas.size());
+            if (!replica.healthy) {
+                continue;
+            }
+            if (strategy == Strategy.ROUND_ROBIN) {
+                return replica;
+            }
+            if (best == null || replica.pool.getActiveCount() < best.pool.getActiveCount()) {
+                best = replica;
+            }
+        }
+        return best;
+    }
+
+    // --- Health ---
+
+    /**
+     * Probes every replica now: a valid connection marks it healthy, and so does a pool
+     * with every connection out (busy, not broken); anything else marks it down.
+     */
+    public void checkHealth() {
+        for (Replica replica : replicas) {
+            boolean healthy;
+            try (Connection conn = replica.pool.getConnection()) {
+                healthy = conn.isValid(VALIDATION_TIMEOUT_SECONDS);
+            } catch (SQLTimeoutException e) {
+                healthy = true;
+            } catch (SQLException | RuntimeException e) {
+                healthy = false;
+            }
+            if (healthy != replica.healthy) {
+                System.out.println((healthy ? "✅ Replica back in rotation: " : "❌ Replica marked down: ") + replica.name);
+            }
+            replica.healthy = healthy;
+        }
+    }
+
+    /** Runs checkHealth() every intervalMillis on a daemon thread. */
+    public synchronized void startHealthChecks(long intervalMillis) {
+        if (healthChecker != null || replicas.isEmpty()) {
+            return;
+        }
+        healthChecker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "turf-db-health");
+            thread.setDaemon(true);
+            return thread;
+        });
+        healthChecker.scheduleWithFixedDelay(this::checkHealth, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    public synchronized void stopHealthChecks() {
+        if (healthChecker != null) {
+            healthChecker.shutdownNow();
+            healthChecker = null;
+        }
+    }
+
+    public int getReplicaCount() { return replicas.size(); }
+
+    public int getHealthyReplicaCount() {
+        int healthy = 0;
+        for (Replica replica : replicas) {
+            if (replica.healthy) {
+                healthy++;
+            }
+        }
+        return healthy;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder text = new StringBuilder("RoutingDataSource[").append(strategy).append(", replicas=");
+        for (int i = 0; i < replicas.size(); i++) {
+            Replica replica = replicas.get(i);
+            text.append(i == 0 ? "" : ", ").append(replica.name).append(replica.healthy ? "" : " (down)");
+        }
+        return text.append(", primaryReads=").append(primaryReads.sum())
+            .append(", replicaReads=").append(replicaReads.sum())
+            .append(", failovers=").append(failovers.sum()).append(']').toString();
+    }
+}
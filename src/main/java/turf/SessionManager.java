@@ -0,0 +1,79 @@
+package turf;
+
+import javax.swing.JFrame;
+
+/**
+ * The desktop client's session. Sessions themselves live in the shared, thread-safe
+ * SessionStore; this client only keeps its token.
+ */
+public class SessionManager {
+    private static volatile String currentToken;
+    
+    public static void login(String username, String role) {
+        String previous = currentToken;
+        currentToken = SessionStore.shared().create(username, role);
+        SessionStore.shared().invalidate(previous);
+        System.out.println("✅ User logged in: " + username + " as " + role);
+    }
+    
+    public static void logout() {
+        Prefetcher.cancelCurrent();
+        SessionStore.shared().invalidate(currentToken);
+        currentToken = null;
+        System.out.println("✅ User logged out");
+    }
+
+    /** The live session for this client, or null if logged out or expired. */
+    private static SessionStore.Session current() {
+        return SessionStore.shared().get(currentToken);
+    }
+    
+    public static boolean isLoggedIn() { return current() != null; }
+    public static String getCurrentToken() { return currentToken; }
+
+    public static String getCurrentUser() {
+        SessionStore.Session session = current();
+        return session == null ? null : session.username;
+    }
+
+    public static String getCurrentRole() {
+        SessionStore.Session session = current();
+        return session == null ? null : session.role;
+    }
+    
+    public static void redirectBasedOnRole(JFrame currentFrame) {
+        SessionStore.Session session = current();
+        if (session == null) {
+            System.out.println("❌ No user logged in for redirection");
+            return;
+        }
+        String currentRole = session.role;
+        
+        System.out.println("🔄 Redirecting user: " + session.username + " with role: " + currentRole);
+
+        // Hand off directly: show the next frame, then close the login window. Showing first
+        // keeps a displayable window alive throughout, so no delay is needed before opening it.
+        JFrame next;
+        long start = System.nanoTime();
+        try {
+            if ("Turf Owner".equals(currentRole)) {
+                System.out.println("🚀 Opening TurfOwnerDashboard...");
+                next = new TurfOwnerDashboard();
+            } else {
+                System.out.println("🚀 Opening TurfHub...");
+                TurfHub hub = new TurfHub();
+                hub.prefetchAfterLogin();
+                next = hub;
+            }
+        } catch (Exception ex) {
+            System.err.println("❌ Error opening dashboard: " + ex.getMessage());
+            ex.printStackTrace();
+            return; // Stay on the login window
+        }
+        Metrics.recordSince(Metrics.histogram("ui.frameBuild." + next.getClass().getSimpleName()), start);
+        StartupTimer.logElapsed("Building " + next.getClass().getSimpleName(), start);
+        next.setVisible(true);
+        next.toFront();
+        currentFrame.dispose(); // Close login window
+    }
+}
@@ -0,0 +1,152 @@
+package turf;
+
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Thread-safe store of logged-in sessions, keyed by an unguessable token.
+ * Sessions are immutable records in a ConcurrentHashMap, so lookups are lock-free O(1);
+ * "touching" a session swaps in a new record. Sessions expire after an idle timeout or
+ * an absolute lifetime. Expired sessions are rejected on lookup and swept periodically
+ * by a background thread.
+ */
+public class SessionStore {
+
+    /** Immutable view of one session. */
+    static final class Session {
+        public final String token;
+        public final String username;
+        public final String role;
+        public final long createdAtMillis;
+        public final long lastAccessMillis;
+
+        Session(String token, String username, String role, long createdAtMillis, long lastAccessMillis) {
+            this.token = token;
+            this.username = username;
+            this.role = role;
+            this.createdAtMillis = createdAtMillis;
+            this.lastAccessMillis = lastAccessMillis;
+        }
+
+        Session touchedAt(long now) {
+            return new Session(token, username, role, createdAtMillis, now);
+        }
+    }
+
+    // Skip rewriting the record if it was touched this recently
+    private static final long TOUCH_GRANULARITY_MS = 1_000;
+
+    private static final SessionStore SHARED = new SessionStore(
+        Long.getLong("turf.session.idleTimeoutMs", TimeUnit.MINUTES.toMillis(30)),
+        Long.getLong("turf.session.absoluteTimeoutMs", TimeUnit.HOURS.toMillis(12)),
+        Long.getLong("turf.session.sweepIntervalMs", TimeUnit.MINUTES.toMillis(1)));
+
+    /** The process-wide store used by the desktop app and the HTTP service. */
+    public static SessionStore shared() {
+        return SHARED;
+    }
+
+    private final ConcurrentHashMap<String, Session> sessions = new ConcurrentHashMap<>();
+    private final AtomicInteger liveCount = new AtomicInteger();
+    private final long idleTimeoutMillis;
+    private final long absoluteTimeoutMillis;
+    private final ScheduledExecutorService sweeper;
+    private final SecureRandom random = new SecureRandom();
+
+    public SessionStore(long idleTimeoutMillis, long absoluteTimeoutMillis, long sweepIntervalMillis) {
+        this.idleTimeoutMillis = idleTimeoutMillis;
+        this.absoluteTimeoutMillis = absoluteTimeoutMillis;
+        this.sweeper = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "session-sweeper");
+            thread.setDaemon(true);
+            return thread;
+        });
+        sweeper.scheduleWithFixedDelay(this::sweepExpired, sweepIntervalMillis, sweepIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /** Starts a new session and returns its token. */
+    public String create(String username, String role) {
+        byte[] bytes = new byte[24];
+        random.nextBytes(bytes);
+        String token = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+        long now = System.currentTimeMillis();
+        sessions.put(token, new Session(token, username, role, now, now));
+        liveCount.incrementAndGet();
+        return token;
+    }
+
+    /** Returns the live session for a token (refreshing its idle timer), or null if unknown or expired. */
+    public Session get(String token) {
+        if (token == null) {
+            return null;
+        }
+        Session session = sessions.get(token);
+        if (session == null) {
+            return null;
+        }
+        long now = System.currentTimeMillis();
+        if (isExpired(session, now)) {
+            remove(token, session);
+            return null;
+        }
+        if (now - session.lastAccessMillis >= TOUCH_GRANULARITY_MS) {
+            Session touched = session.touchedAt(now);
+            if (sessions.replace(token, session, touched)) {
+                return touched;
+            }
+        }
+        return session;
+    }
+
+    /** Ends a session (logout). */
+    public void invalidate(String token) {
+        if (token != null) {
+            Session session = sessions.get(token);
+            if (session != null) {
+                remove(token, session);
+            }
+        }
+    }
+
+    /** Number of sessions that have not been invalidated or swept. */
+    public int getLiveCount() {
+        return liveCount.get();
+    }
+
+    /** Removes every expired session; runs on the sweeper thread. */
+    void sweepExpired() {
+        long now = System.currentTimeMillis();
+        for (Map.Entry<String, Session> entry : sessions.entrySet()) {
+            if (isExpired(entry.getValue(), now)) {
+                remove(entry.getKey(), entry.getValue());
+            }
+        }
+    }
+
+    private boolean isExpired(Session session, long now) {
+        return now - session.lastAccessMillis > idleTimeoutMillis
+            || now - session.createdAtMillis > absoluteTimeoutMillis;
+    }
+
+    private void remove(String token, Session expected) {
+        // Only the thread that actually removes the entry decrements, even if a touch raced us
+        Session current = expected;
+        while (current != null) {
+            if (sessions.remove(token, current)) {
+                liveCount.decrementAndGet();
+                return;
+            }
+            current = sessions.get(token);
+        }
+    }
+
+    public void shutdown() {
+        sweeper.shutdownNow();
+    }
+}
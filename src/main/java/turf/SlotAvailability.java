@@ -0,0 +1,247 @@
+package turf;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Hourly slot availability for every known turf.
+ * Each turf has an "open" bitmask derived from its operating hours, and each turf-day
+ * has an "occupied" bitmask (bit h = the h:00-h+1:00 slot is booked). Masks for one day
+ * are stored as an int[] indexed by a dense turf index, so both "free slots for turf X
+ * on date D" and "turfs free at hour H on date D" are a few bit operations per turf.
+ */
+public class SlotAvailability {
+
+    public static final int SLOTS_PER_DAY = 24;
+    private static final int DEFAULT_OPEN_MASK = rangeMask(6, 23); // 06:00 - 23:00 when hours are unknown
+    private static final Pattern TIME = Pattern.compile("(\\d{1,2})(?::(\\d{2}))?\\s*([AaPp][Mm])?");
+
+    private static final SlotAvailability SHARED = new SlotAvailability();
+
+    /** The process-wide engine used by the booking form. */
+    public static SlotAvailability shared() {
+        return SHARED;
+    }
+
+    // Dense turf index <-> turf id, plus each turf's open-hours mask
+    private final Map<Integer, Integer> indexOfTurf = new HashMap<>();
+    private int[] turfIds = new int[64];
+    private int[] openMasks = new int[64];
+    private int turfCount = 0;
+
+    // epochDay -> occupied mask per dense turf index
+    private final Map<Long, int[]> occupancyByDay = new HashMap<>();
+
+    // --- Registration ---
+
+    /** Registers (or updates) a turf's operating hours, e.g. "06:00 - 23:00" or "6 AM - 11 PM". */
+    public synchronized void registerTurf(int turfId, String operatingHours) {
+        int mask = parseOperatingHours(operatingHours);
+        Integer index = indexOfTurf.get(turfId);
+        if (index != null) {
+            openMasks[index] = mask;
+            return;
+        }
+        if (turfCount == turfIds.length) {
+            turfIds = Arrays.copyOf(turfIds, turfCount * 2);
+            openMasks = Arrays.copyOf(openMasks, turfCount * 2);
+        }
+        turfIds[turfCount] = turfId;
+        openMasks[turfCount] = mask;
+        indexOfTurf.put(turfId, turfCount);
+        turfCount++;
+    }
+
+    public synchronized boolean isRegistered(int turfId) {
+        return indexOfTurf.containsKey(turfId);
+    }
+
+    // --- Queries ---
+
+    /** Bitmask of free slots (open and not booked); 0 for unknown turfs. */
+    public synchronized int freeSlotMask(int turfId, LocalDate date) {
+        Integer index = indexOfTurf.get(turfId);
+        if (index == null) {
+            return 0;
+        }
+        return openMasks[index] & ~occupied(date.toEpochDay(), index);
+    }
+
+    /** Free slot start hours for a turf on a date, ascending. */
+    public List<Integer> freeSlots(int turfId, LocalDate date) {
+        int mask = freeSlotMask(turfId, date);
+        List<Integer> hours = new ArrayList<>(Integer.bitCount(mask));
+        while (mask != 0) {
+            int hour = Integer.numberOfTrailingZeros(mask);
+            hours.add(hour);
+            mask &= mask - 1;
+        }
+        return hours;
+    }
+
+    /** Ids of all registered turfs that are open and unbooked at the given hour on the date. */
+    public synchronized int[] turfsFreeAt(LocalDate date, int hour) {
+        checkHour(hour);
+        int bit = 1 << hour;
+        int[] day = occupancyByDay.get(date.toEpochDay());
+        int[] result = new int[turfCount];
+        int found = 0;
+        for (int index = 0; index < turfCount; index++) {
+            int occupiedMask = (day != null && index < day.length) ? day[index] : 0;
+            if ((openMasks[index] & ~occupiedMask & bit) != 0) {
+                result[found++] = turfIds[index];
+            }
+        }
+        return Arrays.copyOf(result, found);
+    }
+
+    /**
+     * Copies the open-hours mask of each turf into openOut[t] and its occupied mask for each
+     * of `days` days from startDate into occupiedOut[t * days + d], under one lock.
+     * Unknown turfs get 0 for both.
+     */
+    public synchronized void snapshot(int[] turfIds, LocalDate startDate, int days, int[] openOut, int[] occupiedOut) {
+        long firstDay = startDate.toEpochDay();
+        for (int t = 0; t < turfIds.length; t++) {
+            Integer index = indexOfTurf.get(turfIds[t]);
+            openOut[t] = index == null ? 0 : openMasks[index];
+            for (int d = 0; d < days; d++) {
+                occupiedOut[t * days + d] = index == null ? 0 : occupied(firstDay + d, index);
+            }
+        }
+    }
+
+    public boolean isFree(int turfId, LocalDate date, int hour) {
+        checkHour(hour);
+        return (freeSlotMask(turfId, date) & (1 << hour)) != 0;
+    }
+
+    // --- Updates ---
+
+    /**
+     * Atomically claims a slot. Returns false if the turf is unknown, closed at that hour,
+     * or the slot is already booked.
+     */
+    public synchronized boolean tryBook(int turfId, LocalDate date, int hour) {
+        checkHour(hour);
+        Integer index = indexOfTurf.get(turfId);
+        if (index == null) {
+            return false;
+        }
+        int bit = 1 << hour;
+        int[] day = dayFor(date.toEpochDay(), index);
+        if ((openMasks[index] & bit) == 0 || (day[index] & bit) != 0) {
+            return false;
+        }
+        day[index] |= bit;
+        return true;
+    }
+
+    /** Records an existing booking (e.g. loaded from the database) without availability checks. */
+    public synchronized void markBooked(int turfId, LocalDate date, int hour) {
+        checkHour(hour);
+        Integer index = indexOfTurf.get(turfId);
+        if (index != null) {
+            dayFor(date.toEpochDay(), index)[index] |= 1 << hour;
+        }
+    }
+
+    /** Frees a slot, e.g. after a cancellation or a failed commit. */
+    public synchronized void release(int turfId, LocalDate date, int hour) {
+        checkHour(hour);
+        Integer index = indexOfTurf.get(turfId);
+        int[] day = occupancyByDay.get(date.toEpochDay());
+        if (index != null && day != null && index < day.length) {
+            day[index] &= ~(1 << hour);
+        }
+    }
+
+    // --- Helpers ---
+
+    /** Display label for a slot, e.g. "10:00 - 11:00". */
+    public static String slotLabel(int hour) {
+        return String.format("%02d:00 - %02d:00", hour, (hour + 1) % SLOTS_PER_DAY);
+    }
+
+    private int occupied(long epochDay, int index) {
+        int[] day = occupancyByDay.get(epochDay);
+        return (day != null && index < day.length) ? day[index] : 0;
+    }
+
+    private int[] dayFor(long epochDay, int index) {
+        int[] day = occupancyByDay.get(epochDay);
+        if (day == null || index >= day.length) {
+            int[] grown = new int[Math.max(turfIds.length, index + 1)];
+            if (day != null) {
+                System.arraycopy(day, 0, grown, 0, day.length);
+            }
+            day = grown;
+            occupancyByDay.put(epochDay, day);
+        }
+        return day;
+    }
+
+    private static void checkHour(int hour) {
+        if (hour < 0 || hour >= SLOTS_PER_DAY) {
+            throw new IllegalArgumentException("Slot hour out of range: " + hour);
+        }
+    }
+
+    /**
+     * Converts operating hours such as "06:00 - 23:00", "6 AM - 11 PM" or "24 Hours" into
+     * a mask of bookable slot hours. Closing times past midnight wrap around. Only whole hours
+     * inside the opening times are bookable: a partial opening hour (06:30) starts at the next
+     * hour and a partial closing hour (22:30) does not make that last hour bookable.
+     */
+    static int parseOperatingHours(String operatingHours) {
+        if (operatingHours == null) {
+            return DEFAULT_OPEN_MASK;
+        }
+        String text = operatingHours.trim();
+        if (text.startsWith("24") && !text.contains(":") || text.equalsIgnoreCase("24/7")) {
+            return rangeMask(0, SLOTS_PER_DAY);
+        }
+        Matcher matcher = TIME.matcher(text);
+        int[] hours = new int[2];
+        int found = 0;
+        while (found < 2 && matcher.find()) {
+            int hour = Integer.parseInt(matcher.group(1));
+            String meridiem = matcher.group(3);
+            if (meridiem != null) {
+                boolean pm = meridiem.equalsIgnoreCase("PM");
+                hour = hour % 12 + (pm ? 12 : 0);
+            }
+            if (hour > SLOTS_PER_DAY) {
+                return DEFAULT_OPEN_MASK;
+            }
+            String minutes = matcher.group(2);
+            if (found == 0 && minutes != null && Integer.parseInt(minutes) > 0) {
+                hour++; // opens at 06:30: the 06:00 slot is not fully available
+            }
+            hours[found++] = hour % SLOTS_PER_DAY;
+        }
+        if (found < 2) {
+            return DEFAULT_OPEN_MASK;
+        }
+        int open = hours[0];
+        int close = hours[1];
+        if (close > open) {
+            return rangeMask(open, close);
+        }
+        // Closes after midnight (or open round the clock when open == close)
+        return rangeMask(open, SLOTS_PER_DAY) | rangeMask(0, close);
+    }
+
+    /** Bits [from, to) set. */
+    private static int rangeMask(int from, int to) {
+        int upper = to >= 32 ? -1 : (1 << to) - 1;
+        int lower = (1 << from) - 1;
+        return upper & ~lower;
+    }
+}
@@ -0,0 +1,64 @@
+package turf;
+
+import java.awt.AWTEvent;
+import java.awt.Toolkit;
+import java.awt.event.PaintEvent;
+import java.lang.management.ManagementFactory;
+import javax.swing.SwingUtilities;
+
+/**
+ * Measures cold-start time: JVM launch to the first painted frame. Enabled with
+ * -Dturf.startup.timing=true; with -Dturf.startup.exitAfterPaint=true the process exits
+ * right after the first paint, which the launcher uses for timing runs and for recording
+ * an AppCDS archive.
+ */
+public final class StartupTimer {
+
+    private static final boolean ENABLED = Boolean.getBoolean("turf.startup.timing");
+    private static final boolean EXIT_AFTER_PAINT = Boolean.getBoolean("turf.startup.exitAfterPaint");
+
+    private static volatile boolean installed;
+
+    private StartupTimer() {}
+
+    /** Installs a one-shot listener that reports when the first window paints. Call before building the first frame. */
+    public static void watchFirstPaint(String label) {
+        if (!(ENABLED || EXIT_AFTER_PAINT) || installed) {
+            return;
+        }
+        installed = true;
+        Toolkit toolkit = Toolkit.getDefaultToolkit();
+        toolkit.addAWTEventListener(new java.awt.event.AWTEventListener() {
+            private boolean seen;
+
+            @Override
+            public void eventDispatched(AWTEvent event) {
+                if (seen || !(event instanceof PaintEvent)) {
+                    return;
+                }
+                seen = true;
+                toolkit.removeAWTEventListener(this);
+                // Swing paints the frame's contents in the events queued behind this one
+                SwingUtilities.invokeLater(() -> firstPaintDone(label));
+            }
+        }, AWTEvent.PAINT_EVENT_MASK);
+    }
+
+    /** Logs how long an expensive UI step took, when timing is enabled. */
+    public static void logElapsed(String what, long startNanos) {
+        if (ENABLED) {
+            System.out.printf("⏱ %s took %d ms%n", what, (System.nanoTime() - startNanos) / 1_000_000);
+        }
+    }
+
+    public static long millisSinceJvmStart() {
+        return System.currentTimeMillis() - ManagementFactory.getRuntimeMXBean().getStartTime();
+    }
+
+    private static void firstPaintDone(String label) {
+        System.out.println("⏱ " + label + ": first frame painted " + millisSinceJvmStart() + " ms after JVM start");
+        if (EXIT_AFTER_PAINT) {
+            System.exit(0);
+        }
+    }
+}
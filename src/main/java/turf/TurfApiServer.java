@@ -0,0 +1,442 @@
+package turf;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Headless HTTP/JSON front end over the same services the Swing screens use, so many
+ * clients can share one process. Built on the JDK's com.sun.net.httpserver; each request
+ * runs on the data-access style executor (virtual threads on JDK 21+).
+ *
+ *   GET  /api/health
+ *   GET  /api/turfs?category=Football&limit=20&cursor=...
+ *   POST /api/login     {"username": "...", "password": "..."}     -> {"token": "...", "role": "..."}
+ *   POST /api/logout    (Authorization: Bearer token)
+ *   GET  /api/prices?turfId=1&date=2025-01-31                        -> 24 hourly prices from the PricingEngine
+ *   POST /api/bookings  {"turfId": 1, "date": "2025-01-31", "slotHour": 18}  (Authorization: Bearer token)
+ *
+ * Run: java -cp target/classes:mysql-connector.jar turf.TurfApiServer [port]   (default turf.http.port, 8080)
+ */
+public class TurfApiServer {
+
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int MAX_BODY_BYTES = 16 * 1024;
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+
+    private TurfApiServer(HttpServer server, ExecutorService executor) {
+        this.server = server;
+        this.executor = executor;
+    }
+
+    public static void main(String[] args) throws IOException {
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : Integer.getInteger("turf.http.port", 8080);
+        Metrics.start();
+        TurfApiServer api = start(port);
+        System.out.println("🌐 Turf API listening on http://localhost:" + api.getPort() + "/api");
+    }
+
+    /** Binds the port (0 picks a free one) and starts serving. */
+    public static TurfApiServer start(int port) throws IOException {
+        HttpServer server = HttpServer.create(new InetSocketAddress(port), Integer.getInteger("turf.http.backlog", 256));
+        ExecutorService executor = AsyncDataAccess.createExecutor("turf-http");
+        server.setExecutor(executor);
+        TurfApiServer api = new TurfApiServer(server, executor);
+        server.createContext("/api/health", exchange -> api.handle(exchange, "GET", api::health));
+        server.createContext("/api/turfs", exchange -> api.handle(exchange, "GET", api::listTurfs));
+        server.createContext("/api/login", exchange -> api.handle(exchange, "POST", api::login));
+        server.createContext("/api/logout", exchange -> api.handle(exchange, "POST", api::logout));
+        server.createContext("/api/prices", exchange -> api.handle(exchange, "GET", api::prices));
+        server.createContext("/api/bookings", exchange -> api.handle(exchange, "POST", api::book));
+        server.start();
+        return api;
+    }
+
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    /** Stops accepting requests, giving in-flight ones up to delaySeconds to finish. */
+    public void stop(int delaySeconds) {
+        server.stop(delaySeconds);
+        executor.shutdown();
+    }
+
+    // --- Endpoints ---
+
+    /** One endpoint; returns the status code and writes its JSON body into the builder. */
+    private interface Endpoint {
+        int serve(HttpExchange exchange, StringBuilder json) throws Exception;
+    }
+
+    private int health(HttpExchange exchange, StringBuilder json) {
+        json.append("{\"status\":\"ok\",\"sessions\":").append(SessionStore.shared().getLiveCount()).append('}');
+        return 200;
+    }
+
+    private int listTurfs(HttpExchange exchange, StringBuilder json) throws SQLException {
+        Map<String, String> query = parseQuery(exchange.getRequestURI().getRawQuery());
+        String category = query.get("category");
+        if (category == null || category.isEmpty()) {
+            throw new IllegalArgumentException("category is required");
+        }
+        int limit = query.containsKey("limit") ? Integer.parseInt(query.get("limit")) : DEFAULT_PAGE_SIZE;
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("limit must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        TurfPage page = TurfService.getTurfPage(category, query.get("cursor"), limit);
+        json.append("{\"turfs\":[");
+        for (int i = 0; i < page.getTurfs().size(); i++) {
+            TurfModel turf = page.getTurfs().get(i);
+            json.append(i == 0 ? "" : ",")
+                .append("{\"id\":").append(turf.getId())
+                .append(",\"name\":").append(quote(turf.getName()))
+                .append(",\"address\":").append(quote(turf.getAddress()))
+                .append(",\"operatingHours\":").append(quote(turf.getOperatingHours()))
+                .append(",\"pricePerHour\":").append(turf.getPricePerHour())
+                .append(",\"category\":").append(quote(turf.getCategory()))
+                .append('}');
+        }
+        json.append("],\"nextCursor\":").append(quote(page.getNextCursor())).append('}');
+        return 200;
+    }
+
+    private int login(HttpExchange exchange, StringBuilder json) throws IOException, SQLException {
+        Map<String, String> body = parseObject(readBody(exchange));
+        String username = body.get("username");
+        String password = body.get("password");
+        if (username == null || password == null) {
+            throw new IllegalArgumentException("username and password are required");
+        }
+        String role = AuthService.authenticate(username, password);
+        if (role == null) {
+            return error(json, 401, "Invalid username or password");
+        }
+        String token = SessionStore.shared().create(username, role);
+        json.append("{\"token\":").append(quote(token)).append(",\"role\":").append(quote(role)).append('}');
+        return 200;
+    }
+
+    private int logout(HttpExchange exchange, StringBuilder json) {
+        SessionStore.shared().invalidate(bearerToken(exchange));
+        return 204;
+    }
+
+    private int prices(HttpExchange exchange, StringBuilder json) throws SQLException {
+        Map<String, String> query = parseQuery(exchange.getRequestURI().getRawQuery());
+        int turfId = requiredInt(query, "turfId");
+        LocalDate date = parseDate(query.get("date"));
+        TurfModel turf = TurfService.getTurfById(turfId);
+        if (turf == null) {
+            return error(json, 404, "Unknown turf " + turfId);
+        }
+        registerForPricing(turf);
+        BookingService.loadBookedSlots(turfId, date); // bookings by other clients and instances, too
+        double[] prices = PricingEngine.shared().quoteDay(turfId, turf.getPricePerHour(), date);
+        int open = SlotAvailability.parseOperatingHours(turf.getOperatingHours());
+        json.append("{\"turfId\":").append(turfId)
+            .append(",\"date\":").append(quote(date.toString()))
+            .append(",\"basePrice\":").append(turf.getPricePerHour())
+            .append(",\"slots\":[");
+        boolean first = true;
+        for (int hour = 0; hour < prices.length; hour++) {
+            if ((open >>> hour & 1) == 0) {
+                continue;
+            }
+            json.append(first ? "" : ",")
+                .append("{\"slotHour\":").append(hour)
+                .append(",\"free\":").append(SlotAvailability.shared().isFree(turfId, date, hour))
+                .append(",\"price\":").append(prices[hour])
+                .append('}');
+            first = false;
+        }
+        json.append("]}");
+        return 200;
+    }
+
+    private int book(HttpExchange exchange, StringBuilder json) throws IOException, SQLException {
+        SessionStore.Session session = SessionStore.shared().get(bearerToken(exchange));
+        if (session == null) {
+            return error(json, 401, "Login required");
+        }
+        Map<String, String> body = parseObject(readBody(exchange));
+        int turfId = requiredInt(body, "turfId");
+        int slotHour = requiredInt(body, "slotHour");
+        LocalDate date = parseDate(body.get("date"));
+        TurfModel turf = TurfService.getTurfById(turfId);
+        if (turf == null) {
+            return error(json, 404, "Unknown turf " + turfId);
+        }
+        if (slotHour < 0 || slotHour >= SlotAvailability.SLOTS_PER_DAY
+                || (SlotAvailability.parseOperatingHours(turf.getOperatingHours()) >>> slotHour & 1) == 0) {
+            throw new IllegalArgumentException("slotHour is outside the turf's operating hours");
+        }
+
+        registerForPricing(turf);
+        BookingService.loadBookedSlots(turfId, date); // the demand factor counts every booking, not just this instance's
+        double price = PricingEngine.shared().quote(turfId, turf.getPricePerHour(), date, slotHour);
+        BookingService.BookingResult result = BookingService.commitBooking(turfId, session.username, date, slotHour, price);
+        SlotAvailability.shared().markBooked(turfId, date, slotHour); // taken either way; feeds the demand factor
+        if (!result.isConfirmed()) {
+            return error(json, 409, "Slot already booked");
+        }
+        json.append("{\"bookingId\":").append(result.bookingId)
+            .append(",\"turfId\":").append(turfId)
+            .append(",\"date\":").append(quote(date.toString()))
+            .append(",\"slot\":").append(quote(SlotAvailability.slotLabel(slotHour)))
+            .append(",\"totalCost\":").append(price)
+            .append('}');
+        return 201;
+    }
+
+    private static LocalDate parseDate(String value) {
+        LocalDate date;
+        try {
+            date = LocalDate.parse(String.valueOf(value));
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("date must be YYYY-MM-DD");
+        }
+        if (date.isBefore(LocalDate.now())) {
+            throw new IllegalArgumentException("date is in the past");
+        }
+        return date;
+    }
+
+    /** Makes the turf's opening hours known to the availability engine the pricing reads. */
+    private static void registerForPricing(TurfModel turf) {
+        if (!SlotAvailability.shared().isRegistered(turf.getId())) {
+            SlotAvailability.shared().registerTurf(turf.getId(), turf.getOperatingHours());
+        }
+    }
+
+    // --- Plumbing ---
+
+    private void handle(HttpExchange exchange, String method, Endpoint endpoint) throws IOException {
+        long start = System.nanoTime();
+        StringBuilder json = new StringBuilder();
+        int status;
+        try {
+            if (!method.equals(exchange.getRequestMethod())) {
+                exchange.getResponseHeaders().set("Allow", method);
+                status = error(json, 405, "Use " + method);
+            } else {
+                status = endpoint.serve(exchange, json);
+            }
+        } catch (IllegalArgumentException e) {
+            json.setLength(0);
+            status = error(json, 400, e.getMessage());
+        } catch (SQLException e) {
+            System.err.println("Database error serving " + exchange.getRequestURI().getPath() + ": " + e.getMessage());
+            json.setLength(0);
+            status = error(json, 503, "Database unavailable");
+        } catch (Exception e) {
+            System.err.println("Error serving " + exchange.getRequestURI().getPath() + ": " + e);
+            json.setLength(0);
+            status = error(json, 500, "Internal error");
+        }
+
+        if (status >= 500) {
+            Metrics.counter("http.serverErrors").increment();
+        }
+        try (exchange) {
+            if (status == 204) {
+                exchange.sendResponseHeaders(204, -1);
+                return;
+            }
+            byte[] bytes = json.toString().getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+            exchange.sendResponseHeaders(status, bytes.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(bytes);
+            }
+        } finally {
+            // One histogram per endpoint (context path), so the set of names stays bounded
+            Metrics.recordSince(Metrics.histogram("http " + exchange.getHttpContext().getPath()), start);
+        }
+    }
+
+    private static int error(StringBuilder json, int status, String message) {
+        json.append("{\"error\":").append(quote(message)).append('}');
+        return status;
+    }
+
+    private static String bearerToken(HttpExchange exchange) {
+        String header = exchange.getRequestHeaders().getFirst("Authorization");
+        return header != null && header.startsWith("Bearer ") ? header.substring(7).trim() : null;
+    }
+
+    private static String readBody(HttpExchange exchange) throws IOException {
+        try (InputStream in = exchange.getRequestBody()) {
+            byte[] bytes = in.readNBytes(MAX_BODY_BYTES + 1);
+            if (bytes.length > MAX_BODY_BYTES) {
+                throw new IllegalArgumentException("Request body too large");
+            }
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+    }
+
+    private static int requiredInt(Map<String, String> body, String field) {
+        String value = body.get(field);
+        if (value == null) {
+            throw new IllegalArgumentException(field + " is required");
+        }
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(field + " must be an integer");
+        }
+    }
+
+    static Map<String, String> parseQuery(String rawQuery) {
+        Map<String, String> params = new LinkedHashMap<>();
+        if (rawQuery == null || rawQuery.isEmpty()) {
+            return params;
+        }
+        for (String pair : rawQuery.split("&")) {
+            int eq = pair.indexOf('=');
+            String key = URLDecoder.decode(eq < 0 ? pair : pair.substring(0, eq), StandardCharsets.UTF_8);
+            String value = eq < 0 ? "" : URLDecoder.decode(pair.substring(eq + 1), StandardCharsets.UTF_8);
+            params.putIfAbsent(key, value);
+        }
+        return params;
+    }
+
+    /**
+     * Parses a flat JSON object whose values are strings, numbers, booleans or null;
+     * every value comes back as its string form (null stays null). Nested values are rejected.
+     */
+    static Map<String, String> parseObject(String text) {
+        Map<String, String> fields = new LinkedHashMap<>();
+        int[] pos = {skipSpace(text, 0)};
+        expect(text, pos, '{');
+        if (peek(text, pos) == '}') {
+            pos[0]++;
+            return fields;
+        }
+        while (true) {
+            String key = readString(text, pos);
+            expect(text, pos, ':');
+            fields.put(key, readScalar(text, pos));
+            char next = peek(text, pos);
+            pos[0]++;
+            if (next == '}') {
+                return fields;
+            }
+            if (next != ',') {
+                throw new IllegalArgumentException("Malformed JSON at offset " + (pos[0] - 1));
+            }
+        }
+    }
+
+    private static String readScalar(String text, int[] pos) {
+        char c = peek(text, pos);
+        if (c == '"') {
+            return readString(text, pos);
+        }
+        int start = pos[0];
+        while (pos[0] < text.length() && ",} \t\r\n".indexOf(text.charAt(pos[0])) < 0) {
+            pos[0]++;
+        }
+        String literal = text.substring(start, pos[0]);
+        if (literal.equals("null")) {
+            return null;
+        }
+        if (literal.equals("true") || literal.equals("false") || literal.matches("-?\\d+(\\.\\d+)?([eE][+-]?\\d+)?")) {
+            return literal;
+        }
+        throw new IllegalArgumentException("Unsupported JSON value at offset " + start);
+    }
+
+    private static String readString(String text, int[] pos) {
+        expect(text, pos, '"');
+        StringBuilder value = new StringBuilder();
+        while (pos[0] < text.length()) {
+            char c = text.charAt(pos[0]++);
+            if (c == '"') {
+                return value.toString();
+            }
+            if (c != '\\') {
+                value.append(c);
+                continue;
+            }
+            if (pos[0] >= text.length()) {
+                break;
+            }
+            char escaped = text.charAt(pos[0]++);
+            switch (escaped) {
+                case 'n': value.append('\n'); break;
+                case 't': value.append('\t'); break;
+                case 'r': value.append('\r'); break;
+                case 'b': value.append('\b'); break;
+                case 'f': value.append('\f'); break;
+                case 'u':
+                    if (pos[0] + 4 > text.length()) {
+                        throw new IllegalArgumentException("Malformed JSON escape");
+                    }
+                    value.append((char) Integer.parseInt(text.substring(pos[0], pos[0] + 4), 16));
+                    pos[0] += 4;
+                    break;
+                default: value.append(escaped);
+            }
+        }
+        throw new IllegalArgumentException("Unterminated JSON string");
+    }
+
+    private static void expect(String text, int[] pos, char expected) {
+        if (peek(text, pos) != expected) {
+            throw new IllegalArgumentException("Expected '" + expected + "' at offset " + pos[0]);
+        }
+        pos[0]++;
+    }
+
+    /** Skips whitespace and returns the next character without consuming it (0 at the end). */
+    private static char peek(String text, int[] pos) {
+        pos[0] = skipSpace(text, pos[0]);
+        return pos[0] < text.length() ? text.charAt(pos[0]) : 0;
+    }
+
+    private static int skipSpace(String text, int pos) {
+        while (pos < text.length() && Character.isWhitespace(text.charAt(pos))) {
+            pos++;
+        }
+        return pos;
+    }
+
+    static String quote(String value) {
+        if (value == null) {
+            return "null";
+        }
+        StringBuilder out = new StringBuilder(value.length() + 2).append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"': out.append("\\\""); break;
+                case '\\': out.append("\\\\"); break;
+                case '\n': out.append("\\n"); break;
+                case '\r': out.append("\\r"); break;
+                case '\t': out.append("\\t"); break;
+                default:
+                    if (c < 0x20) {
+                        out.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        out.append(c);
+                    }
+            }
+        }
+        return out.append('"').toString();
+    }
+}
@@ -0,0 +1,128 @@
+package turf;
+
+import java.sql.SQLException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Read-through, size-bounded LRU cache with a time-to-live, used in front of the
+ * turf catalog queries. Values are loaded outside the lock; a load that races with
+ * an invalidation is not cached, so invalidated data is never resurrected.
+ */
+public class TurfCatalogCache<V> {
+
+    /** Loads a value on a cache miss. */
+    public interface Loader<V> {
+        V load() throws SQLException;
+    }
+
+    private static final class Entry<V> {
+        final V value;
+        final long expiresAtNanos;
+
+        Entry(V value, long expiresAtNanos) {
+            this.value = value;
+            this.expiresAtNanos = expiresAtNanos;
+        }
+    }
+
+    private final int maxEntries;
+    private final long ttlNanos;
+    private final LinkedHashMap<String, Entry<V>> entries;
+    private long version = 0; // bumped on every invalidation, guarded by this
+
+    // --- Metrics ---
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder expirations = new LongAdder();
+
+    public TurfCatalogCache(int maxEntries, long ttlMillis) {
+        this.maxEntries = maxEntries;
+        this.ttlNanos = TimeUnit.MILLISECONDS.toNanos(ttlMillis);
+        // Access-ordered map gives LRU iteration order; eldest is evicted past maxEntries
+        this.entries = new LinkedHashMap<String, Entry<V>>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry<V>> eldest) {
+                if (size() > TurfCatalogCache.this.maxEntries) {
+                    evictions.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /** Returns the cached value for key, loading (and caching) it on a miss or after expiry. */
+    public V get(String key, Loader<V> loader) throws SQLException {
+        long loadVersion;
+        synchronized (this) {
+            Entry<V> entry = entries.get(key);
+            if (entry != null) {
+                if (System.nanoTime() - entry.expiresAtNanos < 0) {
+                    hits.increment();
+                    return entry.value;
+                }
+                entries.remove(key);
+                expirations.increment();
+            }
+            misses.increment();
+            loadVersion = version;
+        }
+
+        V value = loader.load();
+
+        synchronized (this) {
+            if (loadVersion == version) {
+                entries.put(key, new Entry<>(value, System.nanoTime() + ttlNanos));
+            }
+        }
+        return value;
+    }
+
+    /** Drops one key. */
+    public synchronized void invalidate(String key) {
+        version++;
+        entries.remove(key);
+    }
+
+    /** Drops every key equal to prefix or starting with prefix + separator. */
+    public synchronized void invalidatePrefix(String prefix, char separator) {
+        version++;
+        Iterator<String> keys = entries.keySet().iterator();
+        while (keys.hasNext()) {
+            String key = keys.next();
+            if (key.equals(prefix) || (key.startsWith(prefix) && key.length() > prefix.length() && key.charAt(prefix.length()) == separator)) {
+                keys.remove();
+            }
+        }
+    }
+
+    /** Drops everything, e.g. after an owner adds a turf. */
+    public synchronized void invalidateAll() {
+        version++;
+        entries.clear();
+    }
+
+    // --- Metrics ---
+
+    public synchronized int size() { return entries.size(); }
+    public long getHitCount() { return hits.sum(); }
+    public long getMissCount() { return misses.sum(); }
+    public long getEvictionCount() { return evictions.sum(); }
+    public long getExpirationCount() { return expirations.sum(); }
+
+    public double getHitRate() {
+        long total = hits.sum() + misses.sum();
+        return total == 0 ? 0.0 : (double) hits.sum() / total;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("TurfCatalogCache[size=%d/%d hits=%d misses=%d hitRate=%.1f%% evictions=%d expirations=%d]",
+            size(), maxEntries, getHitCount(), getMissCount(), getHitRate() * 100, getEvictionCount(), getExpirationCount());
+    }
+}
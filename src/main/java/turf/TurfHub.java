@@ -0,0 +1,720 @@
+package turf;
+
+import java.awt.*;
+import java.util.List;
+import javax.swing.*;
+import java.awt.event.ActionListener;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+
+/**
+ * Main application class for the customer-facing side of the Turf Booking Platform.
+ * Displays a list of turfs fetched from the MySQL database using JDBC.
+ * Adheres to SRP (TurfService for DB, TurfHub for UI) and uses basic Swing components.
+ */
+public class TurfHub extends JFrame {
+
+    // --- Color Palette ---
+    private final Color DARK_TEXT = new Color(50, 50, 50);
+    private final Color WHITE = Color.WHITE;
+    private final Color GRAY_BG = new Color(245, 245, 245);
+    private final Color ACCENT_BUTTON_COLOR = new Color(30, 0, 150); // Royal Blue accent
+    private final Color SUCCESS_COLOR = new Color(0, 150, 0); // Green for success message
+
+    private JLabel categoryTitle;
+    private JList<TurfModel> turfList;
+    private PagedTurfListModel turfListModel;
+    private String currentCategory;
+    private String currentQuery; // non-null while showing search results
+    private JTextField searchField;
+    private Timer searchDebounce;
+
+    // Booking form inputs
+    private JComboBox<TurfModel> bookingTurfBox;
+    private JTextField bookingDateField;
+    private JComboBox<Integer> bookingSlotBox;
+    private double[] bookingSlotPrices = new double[SlotAvailability.SLOTS_PER_DAY]; // live quote for the selected turf-day
+    // Booked slots of the selected turf-day, read from the database; a newer selection supersedes it
+    private final AsyncDataAccess.LatestRequest<Integer> bookedSlotsRequest = new AsyncDataAccess.LatestRequest<>();
+    private boolean bookingSlotsLoading;
+    private JButton bookingConfirmButton;
+    private final CardLayout cardLayout = new CardLayout();
+    private JPanel mainCardPanel; 
+
+    private final static String HOME_VIEW = "HOME";
+    private final static String BOOKING_VIEW = "BOOKING";
+
+    // Categories offered in the header bar
+    private final static String[] CATEGORIES = {"Football", "Cricket", "Badminton", "Tennis"};
+
+    // Turf list paging and card geometry
+    private final static int TURF_PAGE_SIZE = 50;
+    private final static int TURF_CARD_WIDTH = 750;
+    private final static int TURF_CARD_HEIGHT = 120;
+    private final static int TURF_CARD_GAP = 15;
+
+    // Search box: results shown, and typing pause before a search runs
+    private final static int SEARCH_RESULT_LIMIT = 50;
+    private final static int SEARCH_DEBOUNCE_MS = 200;
+    
+    // --- Application Initialization ---
+
+    public TurfHub() { 
+        this("Football"); 
+    }
+
+    public TurfHub(String category) {
+        super("Turf Booking App - " + category);
+        setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
+        setSize(800, 700); 
+        setLocationRelativeTo(null); 
+        setLayout(new BorderLayout());
+        
+        add(createHeader(), BorderLayout.NORTH);
+
+        // Initialize CardLayout for view switching (Home/Booking)
+        mainCardPanel = new JPanel(cardLayout);
+        mainCardPanel.add(createHubContent(), HOME_VIEW);
+        // The booking form is built on first navigation (see showBookingView)
+        
+        add(mainCardPanel, BorderLayout.CENTER); 
+        
+        // Load the actual data from the database; the caller shows the frame
+        displayTurfsForCategory(category); 
+    }
+    
+    // --- GUI Components ---
+
+    private JPanel createHeader() {
+        JPanel header = new JPanel(new BorderLayout());
+        header.setBackground(ACCENT_BUTTON_COLOR);
+        header.setBorder(BorderFactory.createEmptyBorder(10, 20, 10, 20));
+        
+        JLabel title = new JLabel("TurfZone - Explore & Book");
+        title.setFont(new Font("SansSerif", Font.BOLD, 18));
+        title.setForeground(WHITE);
+        header.add(title, BorderLayout.WEST);
+
+        // Category tabs
+        JPanel categoryBar = new JPanel(new FlowLayout(FlowLayout.CENTER, 6, 0));
+        categoryBar.setOpaque(false);
+        for (String category : CATEGORIES) {
+            JButton categoryButton = new JButton(category);
+            categoryButton.setFont(new Font("SansSerif", Font.PLAIN, 12));
+            categoryButton.setFocusPainted(false);
+            categoryButton.addActionListener(e -> {
+                searchField.setText("");
+                displayTurfsForCategory(category);
+            });
+            categoryBar.add(categoryButton);
+        }
+        header.add(categoryBar, BorderLayout.CENTER);
+
+        JButton logoutButton = new JButton("Logout");
+        logoutButton.setFont(new Font("SansSerif", Font.PLAIN, 12));
+        logoutButton.setBackground(Color.RED.darker());
+        logoutButton.setForeground(WHITE);
+        logoutButton.setFocusPainted(false);
+        logoutButton.addActionListener(e -> handleLogout());
+        
+        JPanel buttonWrapper = new JPanel(new FlowLayout(FlowLayout.RIGHT, 0, 0));
+        buttonWrapper.setOpaque(false);
+        buttonWrapper.add(logoutButton);
+        header.add(buttonWrapper, BorderLayout.EAST);
+        
+        return header;
+    }
+
+    private JPanel createHubContent() {
+        JPanel container = new JPanel(new BorderLayout());
+        container.setBackground(GRAY_BG);
+        container.setBorder(BorderFactory.createEmptyBorder(10, 15, 15, 15));
+
+        categoryTitle = new JLabel();
+        categoryTitle.setFont(new Font("SansSerif", Font.BOLD, 24));
+        categoryTitle.setForeground(ACCENT_BUTTON_COLOR);
+        categoryTitle.setBorder(BorderFactory.createEmptyBorder(0, 0, 15, 0));
+
+        // Search by name or address across all categories; runs once typing pauses
+        searchField = new JTextField(18);
+        searchField.setToolTipText("Search turfs by name or address");
+        searchDebounce = new Timer(SEARCH_DEBOUNCE_MS, e -> applySearch());
+        searchDebounce.setRepeats(false);
+        searchField.getDocument().addDocumentListener(new javax.swing.event.DocumentListener() {
+            public void insertUpdate(javax.swing.event.DocumentEvent e) { searchDebounce.restart(); }
+            public void removeUpdate(javax.swing.event.DocumentEvent e) { searchDebounce.restart(); }
+            public void changedUpdate(javax.swing.event.DocumentEvent e) { searchDebounce.restart(); }
+        });
+        searchField.addActionListener(e -> {
+            searchDebounce.stop();
+            applySearch();
+        });
+        JPanel searchPanel = new JPanel(new FlowLayout(FlowLayout.RIGHT, 6, 0));
+        searchPanel.setOpaque(false);
+        JLabel searchLabel = new JLabel("Search:");
+        searchLabel.setForeground(DARK_TEXT);
+        searchPanel.add(searchLabel);
+        searchPanel.add(searchField);
+
+        JPanel titleRow = new JPanel(new BorderLayout());
+        titleRow.setOpaque(false);
+        titleRow.add(categoryTitle, BorderLayout.CENTER);
+        titleRow.add(searchPanel, BorderLayout.EAST);
+        container.add(titleRow, BorderLayout.NORTH);
+
+        // Virtualized list: only visible rows are painted, through one reusable card renderer
+        turfListModel = new PagedTurfListModel(TURF_PAGE_SIZE, TURF_PAGE_SIZE / 2,
+            this::onTurfPageLoaded, this::onTurfPageFailed);
+        turfList = new JList<>(turfListModel);
+        turfList.setCellRenderer(new TurfCardRenderer());
+        turfList.setFixedCellHeight(TURF_CARD_HEIGHT + TURF_CARD_GAP);
+        turfList.setFixedCellWidth(TURF_CARD_WIDTH);
+        turfList.setBackground(GRAY_BG);
+        turfList.setSelectionMode(ListSelectionModel.SINGLE_SELECTION);
+        turfList.addMouseListener(new java.awt.event.MouseAdapter() {
+            @Override
+            public void mouseClicked(java.awt.event.MouseEvent e) {
+                handleTurfListClick(e.getPoint());
+            }
+        });
+
+        JScrollPane scrollPane = new JScrollPane(turfList);
+        scrollPane.setBorder(null);
+        scrollPane.getVerticalScrollBar().setUnitIncrement(16);
+        // Fetch the next page as the user nears the end of what is loaded
+        scrollPane.getViewport().addChangeListener(e -> turfListModel.ensureLoadedThrough(turfList.getLastVisibleIndex()));
+        container.add(scrollPane, BorderLayout.CENTER);
+        return container;
+    }
+
+    /** Shows a loading state and starts paging the category off the EDT; stale requests are cancelled. */
+    private void displayTurfsForCategory(String category) {
+        setTitle("Turf Booking App - " + category);
+        currentCategory = category;
+        currentQuery = null;
+        categoryTitle.setText("Loading " + category + " turfs...");
+        turfListModel.reset((cursor, pageSize) -> TurfService.getTurfPageAsync(category, cursor, pageSize));
+    }
+
+    /** Shows search results for the field's text, or goes back to the category when it is cleared. */
+    private void applySearch() {
+        String query = searchField.getText().trim();
+        if (query.isEmpty()) {
+            if (currentQuery != null) {
+                displayTurfsForCategory(currentCategory);
+            }
+            return;
+        }
+        if (query.equals(currentQuery)) {
+            return;
+        }
+        currentQuery = query;
+        categoryTitle.setText("Searching...");
+        // Results come back as a single page (no cursor), so the list stops paging after it
+        turfListModel.reset((cursor, pageSize) ->
+            TurfService.searchTurfsAsync(query, SEARCH_RESULT_LIMIT).thenApply(turfs -> new TurfPage(turfs, null)));
+    }
+
+    private void onTurfPageLoaded(TurfPage page) {
+        // Make the loaded turfs known to the availability engine ("which turfs are free at H")
+        for (TurfModel turf : page.getTurfs()) {
+            SlotAvailability.shared().registerTurf(turf.getId(), turf.getOperatingHours());
+        }
+        if (currentQuery != null) {
+            categoryTitle.setText(turfListModel.getSize() == 0
+                ? "No turfs match \"" + currentQuery + "\""
+                : "Results for \"" + currentQuery + "\"");
+        } else if (turfListModel.getSize() == 0) {
+            categoryTitle.setText("No " + currentCategory + " turfs found.");
+        } else {
+            categoryTitle.setText(currentCategory + " Turfs");
+        }
+        // A short page may not fill the viewport yet; keep paging once the list has been laid out
+        SwingUtilities.invokeLater(() -> turfListModel.ensureLoadedThrough(turfList.getLastVisibleIndex()));
+    }
+
+    private void onTurfPageFailed(Throwable error) {
+        if (turfListModel.getSize() == 0) {
+            categoryTitle.setText(currentQuery != null ? "Search failed." : "Could not load " + currentCategory + " turfs.");
+        }
+        JOptionPane.showMessageDialog(this, 
+            "Database Error: Could not load turfs. Check XAMPP/MySQL connection.", 
+            "JDBC Connection Failed", 
+            JOptionPane.ERROR_MESSAGE);
+    }
+
+    /** Routes a click on a rendered card to its "Book Now" button, if that is what was hit. */
+    private void handleTurfListClick(Point point) {
+        int index = turfList.locationToIndex(point);
+        if (index < 0) {
+            return;
+        }
+        Rectangle cell = turfList.getCellBounds(index, index);
+        if (cell == null || !cell.contains(point)) {
+            return;
+        }
+        TurfModel turf = turfListModel.getElementAt(index);
+        Component card = turfList.getCellRenderer().getListCellRendererComponent(turfList, turf, index, false, false);
+        card.setBounds(0, 0, cell.width, cell.height);
+        layoutTree(card);
+        Component hit = SwingUtilities.getDeepestComponentAt(card, point.x - cell.x, point.y - cell.y);
+        if (hit instanceof JButton) {
+            handleBookNow(turf);
+        }
+    }
+
+    /** Lays out a renderer component tree that is not part of the displayed hierarchy. */
+    private static void layoutTree(Component component) {
+        if (component instanceof Container) {
+            Container container = (Container) component;
+            container.doLayout();
+            for (Component child : container.getComponents()) {
+                layoutTree(child);
+            }
+        }
+    }
+    
+    /**
+     * Renders a turf as a card using pure Swing layout (no HTML).
+     * A single card instance is reused for every row; only its labels change.
+     */
+    private class TurfCardRenderer implements ListCellRenderer<TurfModel> {
+        private final JPanel cell = new JPanel(new BorderLayout());
+        private final JLabel nameLabel = new JLabel();
+        private final JLabel addressLabel = new JLabel();
+        private final JLabel hoursLabel = new JLabel();
+        private final JLabel priceLabel = new JLabel("", SwingConstants.RIGHT);
+
+        TurfCardRenderer() {
+            // The gap below each card replaces the vertical strut between cards
+            cell.setOpaque(false);
+            cell.setBorder(BorderFactory.createEmptyBorder(0, 0, TURF_CARD_GAP, 0));
+
+            JPanel card = new JPanel(new BorderLayout()); 
+            card.setBackground(WHITE);
+            card.setBorder(BorderFactory.createCompoundBorder(
+                BorderFactory.createLineBorder(Color.LIGHT_GRAY, 1),
+                BorderFactory.createEmptyBorder(10, 10, 10, 10)
+            )); 
+
+            // --- Left Side: Details Panel ---
+            JPanel detailsPanel = new JPanel(new GridBagLayout());
+            detailsPanel.setOpaque(false);
+            GridBagConstraints gbc = new GridBagConstraints();
+            gbc.anchor = GridBagConstraints.WEST;
+            gbc.insets = new Insets(2, 5, 2, 5);
+            
+            // 1. Name (Bold)
+            nameLabel.setFont(new Font("SansSerif", Font.BOLD, 16));
+            gbc.gridx = 0; gbc.gridy = 0; detailsPanel.add(nameLabel, gbc);
+            
+            // 2. Address (Regular)
+            addressLabel.setFont(new Font("SansSerif", Font.PLAIN, 12));
+            gbc.gridy = 1; detailsPanel.add(addressLabel, gbc);
+
+            // 3. Hours (Regular)
+            hoursLabel.setFont(new Font("SansSerif", Font.PLAIN, 12));
+            gbc.gridy = 2; detailsPanel.add(hoursLabel, gbc);
+
+            card.add(detailsPanel, BorderLayout.WEST);
+
+            // --- Right side: Price and Button ---
+            JPanel actionPanel = new JPanel(); 
+            actionPanel.setLayout(new BoxLayout(actionPanel, BoxLayout.Y_AXIS));
+            actionPanel.setBackground(WHITE);
+            actionPanel.setBorder(BorderFactory.createEmptyBorder(10, 10, 10, 15)); 
+
+            priceLabel.setFont(new Font("SansSerif", Font.BOLD, 14));
+            priceLabel.setForeground(ACCENT_BUTTON_COLOR); 
+            priceLabel.setAlignmentX(Component.RIGHT_ALIGNMENT);
+            
+            // Clicks are routed by handleTurfListClick; renderer buttons never receive events
+            JButton bookButton = new JButton("Book Now");
+            bookButton.setFont(new Font("SansSerif", Font.BOLD, 14));
+            bookButton.setBackground(ACCENT_BUTTON_COLOR);
+            bookButton.setForeground(WHITE);
+            bookButton.setFocusPainted(false);
+            bookButton.setMaximumSize(new Dimension(150, 35));
+            bookButton.setAlignmentX(Component.RIGHT_ALIGNMENT);
+
+            actionPanel.add(priceLabel); 
+            actionPanel.add(Box.createVerticalStrut(10)); 
+            actionPanel.add(bookButton); 
+            
+            card.add(actionPanel, BorderLayout.EAST);
+            cell.add(card, BorderLayout.CENTER);
+        }
+
+        @Override
+        public Component getListCellRendererComponent(JList<? extends TurfModel> list, TurfModel turf, int index, boolean isSelected, boolean cellHasFocus) {
+            nameLabel.setText(turf.getName());
+            addressLabel.setText(turf.getAddress());
+            hoursLabel.setText("Hours: " + turf.getOperatingHours());
+            priceLabel.setText(String.format("Price: ₹%.2f/hour", turf.getPricePerHour()));
+            return cell;
+        }
+    }
+
+    /**
+     * Warms, in the background, what the first clicks after login need: the other
+     * categories' first pages and the booking form's turf, slot and price data.
+     */
+    void prefetchAfterLogin() {
+        Prefetcher.start(currentCategory, CATEGORIES, TURF_PAGE_SIZE);
+    }
+
+    // --- NEW VIEW: Booking Form Panel (Simple Interface) ---
+    /** Switches to the booking card, building it the first time it is needed. */
+    private void showBookingView() {
+        if (bookingConfirmButton == null) {
+            long start = System.nanoTime();
+            mainCardPanel.add(createBookingFormPanel(), BOOKING_VIEW);
+            Metrics.recordSince(Metrics.histogram("ui.viewBuild.booking"), start);
+            StartupTimer.logElapsed("Building the booking view", start);
+        }
+        cardLayout.show(mainCardPanel, BOOKING_VIEW);
+    }
+
+    private JPanel createBookingFormPanel() {
+        JPanel container = new JPanel(new FlowLayout(FlowLayout.CENTER));
+        container.setBackground(GRAY_BG);
+        
+        // The inner card panel
+        JPanel formCard = new JPanel(new BorderLayout());
+        formCard.setBackground(WHITE);
+        formCard.setBorder(BorderFactory.createEmptyBorder(30, 40, 30, 40));
+        formCard.setPreferredSize(new Dimension(500, 450)); 
+        
+        // 1. Title Area
+        JPanel headerPanel = new JPanel();
+        headerPanel.setOpaque(false);
+        headerPanel.setLayout(new BoxLayout(headerPanel, BoxLayout.Y_AXIS));
+        headerPanel.setAlignmentX(Component.CENTER_ALIGNMENT);
+
+        JLabel title = new JLabel("Confirm Your Booking", SwingConstants.CENTER);
+        title.setFont(new Font("SansSerif", Font.BOLD, 22));
+        title.setForeground(ACCENT_BUTTON_COLOR);
+        title.setAlignmentX(Component.CENTER_ALIGNMENT);
+
+        JLabel subtitle = new JLabel("Please select your turf, date, and time.", SwingConstants.CENTER);
+        subtitle.setFont(new Font("SansSerif", Font.PLAIN, 12));
+        subtitle.setForeground(DARK_TEXT);
+        subtitle.setAlignmentX(Component.CENTER_ALIGNMENT);
+
+        headerPanel.add(title);
+        headerPanel.add(subtitle);
+        headerPanel.add(Box.createVerticalStrut(20));
+        
+        formCard.add(headerPanel, BorderLayout.NORTH);
+
+        // 2. Form Fields Area (using GridBagLayout for alignment)
+        JPanel formPanel = new JPanel(new GridBagLayout());
+        formPanel.setOpaque(false);
+        GridBagConstraints gbc = new GridBagConstraints();
+        gbc.fill = GridBagConstraints.HORIZONTAL;
+        gbc.insets = new Insets(10, 5, 10, 5);
+        gbc.weightx = 1.0; 
+
+        // Input Components: turfs come from "Book Now", free slots from the availability engine
+        bookingTurfBox = new JComboBox<>(new DefaultComboBoxModel<>());
+        bookingDateField = new JTextField(LocalDate.now().toString()); 
+        bookingSlotBox = new JComboBox<>(new DefaultComboBoxModel<>());
+        bookingSlotBox.setRenderer(new DefaultListCellRenderer() {
+            @Override
+            public Component getListCellRendererComponent(JList<?> list, Object value, int index, boolean isSelected, boolean cellHasFocus) {
+                String text = value == null ? (bookingSlotsLoading ? "Loading slots..." : "No free slots")
+                    : String.format("%s   ₹%,.0f", SlotAvailability.slotLabel((Integer) value), bookingSlotPrices[(Integer) value]);
+                return super.getListCellRendererComponent(list, text, index, isSelected, cellHasFocus);
+            }
+        });
+
+        bookingTurfBox.addActionListener(e -> refreshBookingSlots());
+        bookingDateField.getDocument().addDocumentListener(new javax.swing.event.DocumentListener() {
+            @Override public void insertUpdate(javax.swing.event.DocumentEvent e) { refreshBookingSlots(); }
+            @Override public void removeUpdate(javax.swing.event.DocumentEvent e) { refreshBookingSlots(); }
+            @Override public void changedUpdate(javax.swing.event.DocumentEvent e) { refreshBookingSlots(); }
+        });
+        
+        // Add components to the grid
+        addRow(formPanel, gbc, 0, "Select Turf Name", bookingTurfBox);
+        addRow(formPanel, gbc, 1, "Select Booking Date", bookingDateField);
+        addRow(formPanel, gbc, 2, "Select Time Slot", bookingSlotBox);
+
+        formCard.add(formPanel, BorderLayout.CENTER);
+
+        // 3. Action Buttons
+        JButton confirmButton = new JButton("Confirm Booking");
+        bookingConfirmButton = confirmButton;
+        JButton cancelButton = new JButton("Cancel");
+        
+        // Style Buttons simply (Dark Blue for Confirm, Gray for Cancel)
+        confirmButton.setBackground(ACCENT_BUTTON_COLOR);
+        confirmButton.setForeground(WHITE);
+        confirmButton.setFocusPainted(false);
+        confirmButton.setPreferredSize(new Dimension(150, 35));
+
+        cancelButton.setBackground(Color.GRAY.darker());
+        cancelButton.setForeground(WHITE);
+        cancelButton.setFocusPainted(false);
+        cancelButton.setPreferredSize(new Dimension(100, 35));
+
+        // Action Listeners
+        cancelButton.addActionListener(e -> cardLayout.show(mainCardPanel, HOME_VIEW));
+        confirmButton.addActionListener(e -> handleConfirmBooking()); 
+        
+        // Button Panel
+        JPanel buttonPanel = new JPanel(new FlowLayout(FlowLayout.CENTER, 15, 20));
+        buttonPanel.setOpaque(false);
+        buttonPanel.add(cancelButton);
+        buttonPanel.add(confirmButton);
+        
+        formCard.add(buttonPanel, BorderLayout.SOUTH);
+        
+        container.add(formCard);
+        return container;
+    }
+    
+    /**
+     * Reloads the slot dropdown for the selected turf and date: first loads that day's bookings
+     * from the database off the EDT (made by any client, import or earlier run), then offers
+     * the slots that are still free.
+     */
+    private void refreshBookingSlots() {
+        ((DefaultComboBoxModel<Integer>) bookingSlotBox.getModel()).removeAllElements();
+        TurfModel turf = (TurfModel) bookingTurfBox.getSelectedItem();
+        LocalDate date = parseBookingDate();
+        if (turf == null || date == null) {
+            bookedSlotsRequest.cancel();
+            bookingSlotsLoading = false;
+            return;
+        }
+        bookingSlotsLoading = true;
+        bookingSlotBox.repaint();
+        bookedSlotsRequest.submit(
+            () -> AsyncDataAccess.supplyAsync(() -> BookingService.loadBookedSlots(turf.getId(), date)),
+            booked -> fillBookingSlots(),
+            error -> {
+                // Offer what this process knows; the database still rejects a slot that is taken
+                System.err.println("Could not load booked slots: " + error.getMessage());
+                fillBookingSlots();
+            });
+    }
+
+    /** Fills the slot dropdown from the availability engine, priced by the pricing engine. */
+    private void fillBookingSlots() {
+        bookingSlotsLoading = false;
+        DefaultComboBoxModel<Integer> slots = (DefaultComboBoxModel<Integer>) bookingSlotBox.getModel();
+        slots.removeAllElements();
+        TurfModel turf = (TurfModel) bookingTurfBox.getSelectedItem();
+        LocalDate date = parseBookingDate();
+        if (turf == null || date == null) {
+            return;
+        }
+        bookingSlotPrices = PricingEngine.shared().quoteDay(turf.getId(), turf.getPricePerHour(), date);
+        for (int hour : SlotAvailability.shared().freeSlots(turf.getId(), date)) {
+            slots.addElement(hour);
+        }
+    }
+
+    /** The booking date field as a LocalDate, or null if it is not a valid yyyy-MM-dd date. */
+    private LocalDate parseBookingDate() {
+        try {
+            return LocalDate.parse(bookingDateField.getText().trim());
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Claims the selected slot locally, commits the booking to the database off the EDT,
+     * and shows the confirmation only once the database has accepted it.
+     */
+    private void handleConfirmBooking() {
+        TurfModel turf = (TurfModel) bookingTurfBox.getSelectedItem();
+        LocalDate date = parseBookingDate();
+        Integer hour = (Integer) bookingSlotBox.getSelectedItem();
+        if (turf == null || date == null || hour == null) {
+            JOptionPane.showMessageDialog(this, "Please select a turf, a valid date (yyyy-MM-dd) and a free slot.", "Incomplete Booking", JOptionPane.WARNING_MESSAGE);
+            return;
+        }
+        if (date.isBefore(LocalDate.now())) {
+            JOptionPane.showMessageDialog(this, "Please choose today or a future date.", "Invalid Date", JOptionPane.WARNING_MESSAGE);
+            return;
+        }
+        // Quote before claiming: the claim itself raises the demand factor for the rest of the day
+        double price = PricingEngine.shared().quote(turf.getId(), turf.getPricePerHour(), date, hour);
+        if (!SlotAvailability.shared().tryBook(turf.getId(), date, hour)) {
+            showSlotTaken();
+            return;
+        }
+        fillBookingSlots();
+
+        bookingConfirmButton.setEnabled(false);
+        AsyncDataAccess.onEdt(BookingService.commitBookingAsync(turf.getId(), date, hour, price),
+            result -> {
+                bookingConfirmButton.setEnabled(true);
+                if (result.isConfirmed()) {
+                    showBookingConfirmationDialog(this, "#" + result.bookingId, turf.getName(), date.toString(), SlotAvailability.slotLabel(hour));
+                } else {
+                    // Someone else holds the slot in the database; keep it marked as booked
+                    showSlotTaken();
+                }
+            },
+            error -> {
+                bookingConfirmButton.setEnabled(true);
+                // The commit may still have landed: free the claim, then let the database decide
+                SlotAvailability.shared().release(turf.getId(), date, hour);
+                refreshBookingSlots();
+                JOptionPane.showMessageDialog(this, "A database error occurred while saving your booking. Please try again.", "Booking Failed", JOptionPane.ERROR_MESSAGE);
+                error.printStackTrace();
+            });
+    }
+
+    private void showSlotTaken() {
+        JOptionPane.showMessageDialog(this, "Sorry, that slot was just taken. Please pick another.", "Slot Unavailable", JOptionPane.WARNING_MESSAGE);
+        refreshBookingSlots();
+    }
+    
+    /** Helper to add a label-input pair to the GridBagLayout. */
+    private void addRow(JPanel panel, GridBagConstraints gbc, int row, String labelText, JComponent inputComponent) {
+        // Label
+        gbc.gridx = 0;
+        gbc.gridy = row;
+        gbc.weightx = 0.0; 
+        gbc.anchor = GridBagConstraints.WEST;
+        JLabel label = new JLabel(labelText + ":");
+        label.setFont(new Font("SansSerif", Font.BOLD, 14));
+        label.setForeground(DARK_TEXT);
+        panel.add(label, gbc);
+
+        // Input Component
+        gbc.gridx = 1;
+        gbc.gridy = row;
+        gbc.weightx = 1.0; 
+        panel.add(inputComponent, gbc);
+    }
+    
+    /**
+     * Shows a custom JDialog for booking confirmation, matching the style requested.
+     * This replaces the simple JOptionPane.
+     */
+    private void showBookingConfirmationDialog(JFrame parent, String confirmationId, String turfName, String date, String timeSlot) {
+        // Mock data for the success message
+        int userId = 13; // Simulated user ID
+        
+        JDialog dialog = new JDialog(parent, "Booking Confirmed!", true);
+        dialog.setLayout(new BorderLayout());
+        dialog.setSize(400, 300);
+        dialog.setLocationRelativeTo(parent);
+        dialog.getContentPane().setBackground(WHITE);
+
+        // --- Content Panel ---
+        JPanel contentPanel = new JPanel();
+        contentPanel.setLayout(new BoxLayout(contentPanel, BoxLayout.Y_AXIS));
+        contentPanel.setBorder(BorderFactory.createEmptyBorder(20, 20, 10, 20));
+        contentPanel.setBackground(WHITE);
+        
+        // 1. Success Title
+        JLabel successTitle = new JLabel("BOOKING SUCCESS!", SwingConstants.CENTER);
+        successTitle.setFont(new Font("SansSerif", Font.BOLD, 22));
+        successTitle.setForeground(SUCCESS_COLOR);
+        successTitle.setAlignmentX(Component.CENTER_ALIGNMENT);
+        contentPanel.add(successTitle);
+        contentPanel.add(Box.createVerticalStrut(20));
+
+        // 2. Details Grid
+        JPanel detailGrid = new JPanel(new GridLayout(4, 2, 5, 10));
+        detailGrid.setOpaque(false);
+        
+        // Helper method to add key/value pair to grid
+        Action addDetail = new AbstractAction() {
+            @Override
+            public void actionPerformed(java.awt.event.ActionEvent e) {
+                String[] parts = e.getActionCommand().split(":", 2);
+                JLabel key = new JLabel(parts[0] + ":");
+                key.setFont(new Font("SansSerif", Font.BOLD, 14));
+                key.setForeground(DARK_TEXT);
+                
+                JLabel value = new JLabel(parts[1].trim());
+                value.setFont(new Font("SansSerif", Font.PLAIN, 14));
+                value.setForeground(ACCENT_BUTTON_COLOR);
+                
+                detailGrid.add(key);
+                detailGrid.add(value);
+            }
+        };
+
+        addDetail.actionPerformed(new java.awt.event.ActionEvent(this, 0, "Confirmation ID: " + confirmationId));
+        addDetail.actionPerformed(new java.awt.event.ActionEvent(this, 0, "Turf: " + turfName));
+        addDetail.actionPerformed(new java.awt.event.ActionEvent(this, 0, "Date & Time: " + date + " @ " + timeSlot));
+        addDetail.actionPerformed(new java.awt.event.ActionEvent(this, 0, "Logged in User ID: " + userId));
+        
+        contentPanel.add(detailGrid);
+        contentPanel.add(Box.createVerticalGlue()); 
+
+        // --- Button Panel ---
+        JPanel buttonPanel = new JPanel(new FlowLayout(FlowLayout.CENTER, 0, 15));
+        buttonPanel.setBackground(WHITE);
+        
+        JButton okButton = new JButton("OK / View Bookings");
+        okButton.setFont(new Font("SansSerif", Font.BOLD, 16));
+        
+        // 🚩 FIX: Remove button color to make it look neutral/default
+        okButton.setBackground(null); // Set background to null for default look
+        okButton.setForeground(ACCENT_BUTTON_COLOR); // Use accent color for text
+        okButton.setFocusPainted(false);
+        okButton.setPreferredSize(new Dimension(200, 40)); 
+        
+        okButton.addActionListener(e -> {
+            dialog.dispose(); // Close the dialog
+            cardLayout.show(mainCardPanel, HOME_VIEW); // Go back to home view
+        });
+
+        buttonPanel.add(okButton);
+        
+        dialog.add(contentPanel, BorderLayout.CENTER);
+        dialog.add(buttonPanel, BorderLayout.SOUTH);
+        dialog.setVisible(true);
+    }
+    
+    // --- Controller Logic ---
+
+    private void handleBookingConfirmation() {
+        // Show the custom dialog instead of the generic JOptionPane
+        showBookingConfirmationDialog(this, "#" + (int)(Math.random() * 9000 + 1000), "Star Turf Club", "2025-10-27", "10:00 - 11:00"); 
+    }
+
+    private void handleBookNow(TurfModel turf) {
+        if (!SessionManager.isLoggedIn()) {
+             JOptionPane.showMessageDialog(this, "Please log in to book a slot.", "Session Required", JOptionPane.INFORMATION_MESSAGE);
+             return;
+        }
+
+        showBookingView();
+
+        // Make sure the chosen turf is in the form's dropdown and selected
+        DefaultComboBoxModel<TurfModel> turfs = (DefaultComboBoxModel<TurfModel>) bookingTurfBox.getModel();
+        if (turfs.getIndexOf(turf) < 0) {
+            turfs.addElement(turf);
+        }
+        SlotAvailability.shared().registerTurf(turf.getId(), turf.getOperatingHours());
+        turfs.setSelectedItem(turf);
+        refreshBookingSlots();
+    }
+    
+    private void handleLogout() {
+        turfListModel.cancel();
+        SessionManager.logout(); 
+        JOptionPane.showMessageDialog(null, "Logged out successfully.", "Logout", JOptionPane.INFORMATION_MESSAGE);
+        this.dispose(); 
+    }
+
+    // --- Main Method ---
+    public static void main(String[] args) {
+        StartupTimer.watchFirstPaint("TurfHub");
+        Metrics.start();
+        Metrics.startEdtProbe();
+        EdtWatchdog.installIfEnabled();
+        javax.swing.SwingUtilities.invokeLater(() -> new TurfHub("Football").setVisible(true));
+    }
+}
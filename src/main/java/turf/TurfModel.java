@@ -0,0 +1,38 @@
+package turf;
+
+/** Class to model the data of a single turf. Adheres to Encapsulation. */
+public class TurfModel {
+    private final int id;
+    private final String name;
+    private final String address;
+    private final double pricePerHour; 
+    private final String operatingHours;
+    private final String category;
+
+    public TurfModel(int id, String name, String address, double pricePerHour, String operatingHours, String category) {
+        this.id = id;
+        this.name = name;
+        this.address = address;
+        this.pricePerHour = pricePerHour;
+        this.operatingHours = operatingHours;
+        this.category = category;
+    }
+
+    public int getId() { return id; }
+    public String getName() { return name; }
+    public String getAddress() { return address; }
+    public String getOperatingHours() { return operatingHours; }
+    public double getPricePerHour() { return pricePerHour; } 
+    public String getCategory() { return category; }
+
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof TurfModel && ((TurfModel) other).id == id;
+    }
+
+    @Override
+    public int hashCode() { return Integer.hashCode(id); }
+
+    @Override
+    public String toString() { return name; }
+}
@@ -0,0 +1,693 @@
+package turf;
+
+import javax.swing.*;
+import javax.swing.event.DocumentEvent;
+import javax.swing.event.DocumentListener;
+import javax.swing.filechooser.FileNameExtensionFilter;
+import javax.swing.table.DefaultTableCellRenderer;
+import java.awt.*;
+import java.awt.event.MouseAdapter;
+import java.awt.event.MouseEvent;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Arrays;
+import java.util.Collections;
+
+/**
+ * Turf Owner Dashboard application using CardLayout to switch between
+ * the table of owned turfs (Landing View), selected turf's details (Detail View),
+ * and the Turf Registration Form (Add Turf View).
+ */
+public class TurfOwnerDashboard extends JFrame {
+
+    // --- CardLayout Management Variables ---
+    private final CardLayout cardLayout = new CardLayout();
+    private final static String LANDING_VIEW = "LANDING";
+    private final static String DETAIL_VIEW = "DETAIL";
+    private final static String ADD_TURF_VIEW = "ADD_TURF"; // New View
+    
+    // Core Swing components
+    private JPanel cardPanel;
+    private JPanel detailViewPanel; 
+    private JLabel loadErrorLabel; // landing view: shown when the owner's turfs could not be loaded
+    
+    // Define the custom color palette
+    private final static Color APP_BACKGROUND = new Color(240, 240, 240); // Very light gray/off-white
+    private final static Color ACCENT_COLOR = new Color(30, 0, 150); // Deep Royal Blue
+    private final static Color NEUTRAL_BUTTON_COLOR = new Color(220, 220, 220); // Light Gray/Silver
+    private final static Color TEXT_COLOR_MAIN = new Color(50, 50, 50); // Dark gray
+    
+    // --- 1. OOP Data Classes ---
+
+    static class Turf {
+        public final String id;
+        public final String name;
+        public final String location;
+        public final double hourlyRate;
+
+        public Turf(String id, String name, String location, double hourlyRate) {
+            this.id = id;
+            this.name = name;
+            this.location = location;
+            this.hourlyRate = hourlyRate;
+        }
+    }
+
+    static class Booking {
+        public final String turfId;
+        public final double totalCost;
+
+        public Booking(String turfId, double totalCost) {
+            this.turfId = turfId;
+            this.totalCost = totalCost;
+        }
+    }
+
+    // --- 2. Data Storage ---
+    private final BookingAggregates bookingAggregates = new BookingAggregates(); // per-turf count/income shown on the dashboard
+    // Landing view table: paged, sorted and filtered over all turfs, with cached per-turf metrics
+    private final OwnerTurfTableModel turfTableModel = new OwnerTurfTableModel();
+    private int nextTurfId = 1004; // Used to generate unique IDs for new demo turfs (no owner logged in)
+    // Booking date range the metrics cover (inclusive); null leaves that side open
+    private LocalDate statsFrom;
+    private LocalDate statsTo;
+
+    public TurfOwnerDashboard() {
+        super("Turf Management Platform");
+
+        setupFrame();
+
+        cardPanel = new JPanel(cardLayout);
+        cardPanel.setBackground(APP_BACKGROUND); 
+        
+        cardPanel.add(createLandingPanel(), LANDING_VIEW);
+        
+        // Detail view panel is created once and reused (updated dynamically)
+        detailViewPanel = createEmptyDetailPanel();
+        cardPanel.add(detailViewPanel, DETAIL_VIEW);
+        
+        // Add the registration form panel
+        cardPanel.add(createAddTurfPanel(), ADD_TURF_VIEW);
+        
+        add(cardPanel, BorderLayout.CENTER);
+
+        loadOwnerData();
+    }
+
+    // --- Data Initialization and Calculation ---
+
+    /**
+     * Loads the logged-in owner's turfs and per-turf aggregates over the selected date range
+     * from the database off the EDT. Shows the demo data when no owner is logged in, and an
+     * error (never the demo turfs) when the database is unreachable.
+     */
+    private void loadOwnerData() {
+        String owner = SessionManager.getCurrentUser();
+        if (owner == null) {
+            initializeMockData();
+            return;
+        }
+        LocalDate from = statsFrom;
+        LocalDate to = statsTo;
+        AsyncDataAccess.onEdt(
+            AsyncDataAccess.supplyAsync(() -> OwnerAnalyticsRepository.loadOwnerData(owner, from, to)),
+            data -> {
+                loadErrorLabel.setVisible(false);
+                turfTableModel.setTurfs(data.turfs); // one change event for the whole list
+                bookingAggregates.clear();
+                for (OwnerAnalyticsRepository.TurfStats stat : data.stats) {
+                    bookingAggregates.add(stat.turfId, stat.bookings, stat.income);
+                }
+                turfTableModel.refreshMetrics(bookingAggregates);
+                showLandingView();
+            },
+            error -> {
+                System.err.println("Could not load owner data: " + error.getMessage());
+                turfTableModel.setTurfs(Collections.emptyList());
+                bookingAggregates.clear();
+                loadErrorLabel.setText("Could not load your turfs: " + error.getMessage());
+                loadErrorLabel.setVisible(true);
+                showLandingView();
+            });
+    }
+
+    /**
+     * Sets the booking date range from the landing view's fields (yyyy-MM-dd; blank leaves
+     * that side open) and reloads the metrics for it.
+     */
+    private void applyDateRange(String fromText, String toText) {
+        LocalDate from;
+        LocalDate to;
+        try {
+            from = fromText.trim().isEmpty() ? null : LocalDate.parse(fromText.trim());
+            to = toText.trim().isEmpty() ? null : LocalDate.parse(toText.trim());
+        } catch (DateTimeParseException e) {
+            JOptionPane.showMessageDialog(this, "Enter dates as yyyy-MM-dd, e.g. 2025-01-31.", "Invalid Date", JOptionPane.WARNING_MESSAGE);
+            return;
+        }
+        if (from != null && to != null && from.isAfter(to)) {
+            JOptionPane.showMessageDialog(this, "The start date is after the end date.", "Invalid Range", JOptionPane.WARNING_MESSAGE);
+            return;
+        }
+        if (SessionManager.getCurrentUser() == null) {
+            JOptionPane.showMessageDialog(this, "Log in as a turf owner to filter bookings by date.", "Session Required", JOptionPane.INFORMATION_MESSAGE);
+            return;
+        }
+        statsFrom = from;
+        statsTo = to;
+        loadOwnerData();
+    }
+
+    private void showLandingView() {
+        cardLayout.show(cardPanel, LANDING_VIEW);
+    }
+
+    private void initializeMockData() {
+        turfTableModel.setTurfs(Arrays.asList(
+            new Turf("TA001", "Ground Zero Turf", "City Park", 1500.00),
+            new Turf("TB002", "Champions Arena", "Main Road", 2000.00),
+            new Turf("TC003", "Sunset Pitch", "Riverside", 1000.00)));
+
+        // Define mock bookings data generated by customers
+        bookingAggregates.clear();
+        addBooking(new Booking("TA001", 1500.00));
+        addBooking(new Booking("TA001", 750.00));
+        addBooking(new Booking("TB002", 800.00));
+        addBooking(new Booking("TA001", 2250.00));
+        addBooking(new Booking("TC003", 1000.00));
+        addBooking(new Booking("TB002", 600.00));
+        turfTableModel.refreshMetrics(bookingAggregates);
+    }
+
+    /** Adds a demo booking to the per-turf aggregates. */
+    private void addBooking(Booking booking) {
+        bookingAggregates.record(booking.turfId, booking.totalCost);
+    }
+
+    /**
+     * Registers a new turf and adds it to the table. For a logged-in owner the turf is
+     * inserted into the database off the EDT (which also refreshes the customer catalog);
+     * the demo console only keeps it in memory.
+     * @param name The name of the new turf.
+     * @param location The location of the new turf.
+     * @param rate The hourly rate.
+     * @param onAdded Runs on the EDT once the turf is saved.
+     */
+    private void addTurf(String name, String location, double rate, Runnable onAdded) {
+        String owner = SessionManager.getCurrentUser();
+        if (owner == null) {
+            turfTableModel.addTurf(new Turf("T" + (nextTurfId++), name, location, rate), bookingAggregates);
+            showLandingView();
+            onAdded.run();
+            return;
+        }
+        setCursor(Cursor.getPredefinedCursor(Cursor.WAIT_CURSOR));
+        AsyncDataAccess.onEdt(
+            AsyncDataAccess.supplyAsync(() -> TurfService.registerTurf(owner, name, location, rate)),
+            turfId -> {
+                setCursor(Cursor.getDefaultCursor());
+                turfTableModel.addTurf(new Turf(String.valueOf(turfId), name, location, rate), bookingAggregates);
+                showLandingView();
+                onAdded.run();
+            },
+            error -> {
+                setCursor(Cursor.getDefaultCursor());
+                System.err.println("Could not save turf: " + error.getMessage());
+                JOptionPane.showMessageDialog(this, "Could not save the turf: " + error.getMessage(), "Save Error", JOptionPane.ERROR_MESSAGE);
+            });
+    }
+
+    /**
+     * Imports a turfs or bookings CSV for the logged-in owner off the EDT, then reloads the
+     * owner data once, so the table is refreshed a single time however many rows arrive.
+     */
+    private void handleImportCsv(JButton importButton) {
+        String owner = SessionManager.getCurrentUser();
+        if (owner == null) {
+            JOptionPane.showMessageDialog(this, "Log in as a turf owner to import data.", "Session Required", JOptionPane.INFORMATION_MESSAGE);
+            return;
+        }
+        JFileChooser chooser = new JFileChooser();
+        chooser.setDialogTitle("Import turfs or bookings (CSV)");
+        chooser.setFileFilter(new FileNameExtensionFilter("CSV files", "csv"));
+        if (chooser.showOpenDialog(this) != JFileChooser.APPROVE_OPTION) {
+            return;
+        }
+        Path file = chooser.getSelectedFile().toPath();
+
+        importButton.setEnabled(false);
+        setCursor(Cursor.getPredefinedCursor(Cursor.WAIT_CURSOR));
+        AsyncDataAccess.onEdt(
+            AsyncDataAccess.supplyAsync(() -> new BulkImporter(owner, BulkImporter.DEFAULT_CHUNK_SIZE).importFile(file)),
+            result -> {
+                importButton.setEnabled(true);
+                setCursor(Cursor.getDefaultCursor());
+                System.out.println("📥 " + result);
+                if (result.kind == BulkImporter.Kind.TURFS && result.rowsImported > 0) {
+                    TurfService.invalidateCatalog();
+                }
+                loadOwnerData(); // single refresh of the turf table
+
+                StringBuilder message = new StringBuilder(result.toString());
+                for (String error : result.errors) {
+                    message.append("\n").append(error);
+                }
+                if (result.rowsRejected > result.errors.size()) {
+                    message.append("\n...");
+                }
+                JOptionPane.showMessageDialog(this, message.toString(), "Import Finished",
+                    result.rowsRejected == 0 ? JOptionPane.INFORMATION_MESSAGE : JOptionPane.WARNING_MESSAGE);
+            },
+            error -> {
+                importButton.setEnabled(true);
+                setCursor(Cursor.getDefaultCursor());
+                System.err.println("Import failed: " + error);
+                JOptionPane.showMessageDialog(this, "Import failed: " + error.getMessage(), "Import Error", JOptionPane.ERROR_MESSAGE);
+            });
+    }
+
+    // --- 3. GUI Layout Methods ---
+
+    private void setupFrame() {
+        setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
+        setSize(640, 550); // Wide enough for the turf table's metric columns
+        setLocationRelativeTo(null); 
+    }
+    
+    private JPanel createEmptyDetailPanel() {
+        JPanel panel = new JPanel(new BorderLayout());
+        panel.setBackground(APP_BACKGROUND); 
+        panel.setBorder(BorderFactory.createEmptyBorder(20, 20, 20, 20));
+        return panel;
+    }
+
+    /** Creates the main landing page showing the list of turfs and the add button. */
+    private JPanel createLandingPanel() {
+        JPanel contentPanel = new JPanel(new BorderLayout());
+        contentPanel.setBorder(BorderFactory.createEmptyBorder(20, 20, 20, 20));
+        contentPanel.setBackground(APP_BACKGROUND); 
+
+        JPanel mainPanel = new JPanel();
+        mainPanel.setLayout(new BoxLayout(mainPanel, BoxLayout.Y_AXIS)); 
+        mainPanel.setOpaque(false);
+
+        JPanel buttonPanel = new JPanel();
+        buttonPanel.setLayout(new BoxLayout(buttonPanel, BoxLayout.Y_AXIS));
+        buttonPanel.setOpaque(false);
+        buttonPanel.setBorder(BorderFactory.createEmptyBorder(20, 0, 0, 0));
+        
+        // Title
+        JLabel titleLabel = new JLabel("Turf Owner Console");
+        titleLabel.setFont(new Font("SansSerif", Font.BOLD, 22));
+        titleLabel.setForeground(ACCENT_COLOR);
+        titleLabel.setAlignmentX(Component.LEFT_ALIGNMENT);
+        mainPanel.add(titleLabel);
+        mainPanel.add(Box.createVerticalStrut(25)); 
+
+        // Subtitle
+        JLabel subtitleLabel = new JLabel("Click a Turf to see its Performance:");
+        subtitleLabel.setFont(new Font("SansSerif", Font.BOLD, 16));
+        subtitleLabel.setForeground(TEXT_COLOR_MAIN);
+        subtitleLabel.setAlignmentX(Component.LEFT_ALIGNMENT);
+        mainPanel.add(subtitleLabel);
+
+        loadErrorLabel = new JLabel();
+        loadErrorLabel.setFont(new Font("SansSerif", Font.BOLD, 13));
+        loadErrorLabel.setForeground(new Color(180, 0, 0));
+        loadErrorLabel.setAlignmentX(Component.LEFT_ALIGNMENT);
+        loadErrorLabel.setVisible(false);
+        mainPanel.add(loadErrorLabel);
+        mainPanel.add(Box.createVerticalStrut(10));
+
+        // Filter: narrows the table to turfs whose id, name or location contains the text
+        JTextField filterField = new JTextField();
+        filterField.setToolTipText("Filter by turf id, name or location");
+        filterField.getDocument().addDocumentListener(new DocumentListener() {
+            @Override
+            public void insertUpdate(DocumentEvent e) { turfTableModel.setFilter(filterField.getText()); }
+            @Override
+            public void removeUpdate(DocumentEvent e) { turfTableModel.setFilter(filterField.getText()); }
+            @Override
+            public void changedUpdate(DocumentEvent e) { turfTableModel.setFilter(filterField.getText()); }
+        });
+        mainPanel.add(createFormField("Search:", filterField));
+        mainPanel.add(createDateRangeBar());
+
+        // Turf table: one page of the filtered, sorted turfs at a time
+        JScrollPane turfScroll = new JScrollPane(createTurfTable());
+        turfScroll.setBorder(BorderFactory.createLineBorder(new Color(200, 200, 200), 1));
+        turfScroll.getVerticalScrollBar().setUnitIncrement(16);
+        JPanel tablePanel = new JPanel(new BorderLayout(0, 5));
+        tablePanel.setOpaque(false);
+        tablePanel.add(turfScroll, BorderLayout.CENTER);
+        tablePanel.add(createPagingBar(), BorderLayout.SOUTH);
+
+        // Add New Turf Button
+        JButton addButton = new JButton(" Add New Turf ");
+        addButton.setFont(new Font("SansSerif", Font.BOLD, 14));
+        addButton.addActionListener(e -> cardLayout.show(cardPanel, ADD_TURF_VIEW)); // Switch to the form view
+        
+        addButton.setBackground(NEUTRAL_BUTTON_COLOR); 
+        addButton.setForeground(TEXT_COLOR_MAIN); 
+        addButton.setFocusPainted(false);
+        addButton.setAlignmentX(Component.LEFT_ALIGNMENT);
+        
+        buttonPanel.add(addButton);
+        buttonPanel.add(Box.createVerticalStrut(10));
+
+        // Bulk import of turfs or historical bookings from CSV
+        JButton importButton = new JButton(" Import CSV... ");
+        importButton.setFont(new Font("SansSerif", Font.BOLD, 14));
+        importButton.addActionListener(e -> handleImportCsv(importButton));
+        importButton.setBackground(NEUTRAL_BUTTON_COLOR);
+        importButton.setForeground(TEXT_COLOR_MAIN);
+        importButton.setFocusPainted(false);
+        importButton.setAlignmentX(Component.LEFT_ALIGNMENT);
+        buttonPanel.add(importButton);
+        
+        contentPanel.add(mainPanel, BorderLayout.NORTH);
+        contentPanel.add(tablePanel, BorderLayout.CENTER);
+        contentPanel.add(buttonPanel, BorderLayout.SOUTH);
+        return contentPanel;
+    }
+    
+    /** Creates the new turf registration form. */
+    private JPanel createAddTurfPanel() {
+        JPanel contentPanel = new JPanel();
+        contentPanel.setLayout(new BoxLayout(contentPanel, BoxLayout.Y_AXIS));
+        contentPanel.setBorder(BorderFactory.createEmptyBorder(20, 20, 20, 20));
+        contentPanel.setBackground(APP_BACKGROUND); 
+        
+        // Title
+        JLabel titleLabel = new JLabel("Register New Turf");
+        titleLabel.setFont(new Font("SansSerif", Font.BOLD, 22));
+        titleLabel.setForeground(ACCENT_COLOR);
+        titleLabel.setAlignmentX(Component.LEFT_ALIGNMENT);
+        contentPanel.add(titleLabel);
+        contentPanel.add(Box.createVerticalStrut(25)); 
+        
+        // Form Fields
+        JTextField nameField = new JTextField(20);
+        JTextField locationField = new JTextField(20);
+        JTextField rateField = new JTextField(20);
+        
+        contentPanel.add(createFormField("Turf Name:", nameField));
+        contentPanel.add(createFormField("Location:", locationField));
+        contentPanel.add(createFormField("Hourly Rate (Rs.):", rateField));
+        
+        contentPanel.add(Box.createVerticalStrut(30));
+
+        // Buttons
+        JButton saveButton = new JButton("Save Turf");
+        JButton cancelButton = new JButton("Cancel");
+        
+        // Save Button Action (Controller Logic)
+        saveButton.addActionListener(e -> {
+            try {
+                String name = nameField.getText().trim();
+                String location = locationField.getText().trim();
+                double rate = Double.parseDouble(rateField.getText().trim());
+
+                if (name.isEmpty() || location.isEmpty() || rate <= 0) {
+                    JOptionPane.showMessageDialog(this, "Please fill all fields correctly.", "Input Error", JOptionPane.ERROR_MESSAGE);
+                    return;
+                }
+                
+                addTurf(name, location, rate, () -> {
+                    // Reset fields
+                    nameField.setText("");
+                    locationField.setText("");
+                    rateField.setText("");
+
+                    JOptionPane.showMessageDialog(this, "Turf '" + name + "' added successfully!", "Success", JOptionPane.INFORMATION_MESSAGE);
+                });
+            } catch (NumberFormatException ex) {
+                JOptionPane.showMessageDialog(this, "Hourly Rate must be a valid number.", "Input Error", JOptionPane.ERROR_MESSAGE);
+            }
+        });
+
+        // Cancel Button Action
+        cancelButton.addActionListener(e -> cardLayout.show(cardPanel, LANDING_VIEW));
+
+        // Styling Buttons
+        saveButton.setFont(new Font("SansSerif", Font.BOLD, 14));
+        saveButton.setBackground(ACCENT_COLOR); 
+        saveButton.setForeground(Color.WHITE); 
+        
+        cancelButton.setFont(new Font("SansSerif", Font.BOLD, 14));
+        cancelButton.setBackground(NEUTRAL_BUTTON_COLOR); 
+        cancelButton.setForeground(TEXT_COLOR_MAIN); 
+
+        JPanel buttonPanel = new JPanel(new FlowLayout(FlowLayout.LEFT, 10, 0));
+        buttonPanel.setOpaque(false);
+        buttonPanel.add(saveButton);
+        buttonPanel.add(cancelButton);
+        
+        buttonPanel.setAlignmentX(Component.LEFT_ALIGNMENT);
+        contentPanel.add(buttonPanel);
+        
+        // Wrap in a BorderLayout to ensure components align top-left
+        JPanel wrapper = new JPanel(new BorderLayout());
+        wrapper.setOpaque(false);
+        wrapper.add(contentPanel, BorderLayout.NORTH);
+        return wrapper;
+    }
+    
+    /** Booking date range for the table's metrics: from/to fields (blank = open) and Apply. */
+    private JPanel createDateRangeBar() {
+        JPanel bar = new JPanel(new FlowLayout(FlowLayout.LEFT, 5, 0));
+        bar.setOpaque(false);
+        bar.setMaximumSize(new Dimension(Integer.MAX_VALUE, 40));
+        bar.setBorder(BorderFactory.createEmptyBorder(5, 0, 5, 0));
+
+        JTextField fromField = new JTextField(10);
+        fromField.setToolTipText("First booking date, yyyy-MM-dd (blank: from the start)");
+        JTextField toField = new JTextField(10);
+        toField.setToolTipText("Last booking date, yyyy-MM-dd (blank: up to the latest)");
+        JButton applyButton = new JButton("Apply");
+        applyButton.setBackground(NEUTRAL_BUTTON_COLOR);
+        applyButton.setForeground(TEXT_COLOR_MAIN);
+        applyButton.setFocusPainted(false);
+        applyButton.addActionListener(e -> applyDateRange(fromField.getText(), toField.getText()));
+
+        JLabel fromLabel = new JLabel("Bookings from:");
+        fromLabel.setFont(new Font("SansSerif", Font.BOLD, 14));
+        fromLabel.setForeground(TEXT_COLOR_MAIN);
+        JLabel toLabel = new JLabel("to:");
+        toLabel.setFont(new Font("SansSerif", Font.BOLD, 14));
+        toLabel.setForeground(TEXT_COLOR_MAIN);
+        bar.add(fromLabel);
+        bar.add(fromField);
+        bar.add(toLabel);
+        bar.add(toField);
+        bar.add(applyButton);
+        return bar;
+    }
+
+    /** Helper method to create a Label/TextField pair for the form. */
+    private JPanel createFormField(String labelText, JTextField field) {
+        JPanel panel = new JPanel(new BorderLayout());
+        panel.setOpaque(false);
+        panel.setMaximumSize(new Dimension(Integer.MAX_VALUE, 40)); 
+        panel.setBorder(BorderFactory.createEmptyBorder(5, 0, 5, 0));
+        
+        JLabel label = new JLabel(labelText);
+        label.setFont(new Font("SansSerif", Font.BOLD, 14));
+        label.setForeground(TEXT_COLOR_MAIN);
+        
+        // Use GridLayout to align label and field horizontally
+        JPanel innerPanel = new JPanel(new GridLayout(1, 2, 10, 0));
+        innerPanel.setOpaque(false);
+        
+        innerPanel.add(label);
+        innerPanel.add(field);
+        
+        panel.add(innerPanel, BorderLayout.NORTH);
+        return panel;
+    }
+
+    /** Creates the turf table: click a header to sort by it, click a row to open its details. */
+    private JTable createTurfTable() {
+        JTable table = new JTable(turfTableModel);
+        table.setFont(new Font("SansSerif", Font.PLAIN, 14));
+        table.setForeground(TEXT_COLOR_MAIN);
+        table.setRowHeight(28);
+        table.setFillsViewportHeight(true);
+        table.setSelectionMode(ListSelectionModel.SINGLE_SELECTION);
+        table.setCursor(new Cursor(Cursor.HAND_CURSOR));
+        table.getTableHeader().setFont(new Font("SansSerif", Font.BOLD, 13));
+        table.getTableHeader().setReorderingAllowed(false);
+
+        DefaultTableCellRenderer numberRenderer = new DefaultTableCellRenderer();
+        numberRenderer.setHorizontalAlignment(SwingConstants.RIGHT);
+        for (int column : new int[] {OwnerTurfTableModel.RATE, OwnerTurfTableModel.BOOKINGS, OwnerTurfTableModel.INCOME}) {
+            table.getColumnModel().getColumn(column).setCellRenderer(numberRenderer);
+        }
+
+        // Sorting is done by the model over every turf, not just the page on screen
+        table.getTableHeader().addMouseListener(new MouseAdapter() {
+            @Override
+            public void mouseClicked(MouseEvent e) {
+                int column = table.convertColumnIndexToModel(table.getTableHeader().columnAtPoint(e.getPoint()));
+                if (column < 0) {
+                    return;
+                }
+                turfTableModel.toggleSort(column);
+                for (int i = 0; i < table.getColumnCount(); i++) {
+                    table.getColumnModel().getColumn(i).setHeaderValue(turfTableModel.getColumnName(i));
+                }
+                table.getTableHeader().repaint();
+            }
+        });
+
+        // Event handling to switch views
+        table.addMouseListener(new MouseAdapter() {
+            @Override
+            public void mouseClicked(MouseEvent e) {
+                int row = table.rowAtPoint(e.getPoint());
+                if (row >= 0) {
+                    showTurfDetails(row);
+                }
+            }
+        });
+        return table;
+    }
+
+    /** Previous/next page buttons and a "Page x of y" label that follow the table model. */
+    private JPanel createPagingBar() {
+        JButton previousButton = new JButton("◀ Prev");
+        JButton nextButton = new JButton("Next ▶");
+        JLabel pageLabel = new JLabel();
+        pageLabel.setFont(new Font("SansSerif", Font.PLAIN, 12));
+        pageLabel.setForeground(TEXT_COLOR_MAIN);
+        for (JButton button : new JButton[] {previousButton, nextButton}) {
+            button.setFont(new Font("SansSerif", Font.PLAIN, 12));
+            button.setBackground(NEUTRAL_BUTTON_COLOR);
+            button.setForeground(TEXT_COLOR_MAIN);
+            button.setFocusPainted(false);
+        }
+        previousButton.addActionListener(e -> turfTableModel.setPage(turfTableModel.getPage() - 1));
+        nextButton.addActionListener(e -> turfTableModel.setPage(turfTableModel.getPage() + 1));
+
+        Runnable update = () -> {
+            int page = turfTableModel.getPage();
+            int pages = turfTableModel.getPageCount();
+            int matches = turfTableModel.getMatchCount();
+            int total = turfTableModel.getTurfCount();
+            pageLabel.setText(String.format("Page %d of %d  ·  %s", page + 1, pages,
+                matches == total ? String.format("%,d turfs", total) : String.format("%,d of %,d turfs", matches, total)));
+            previousButton.setEnabled(page > 0);
+            nextButton.setEnabled(page < pages - 1);
+        };
+        turfTableModel.addTableModelListener(e -> update.run());
+        update.run();
+
+        JPanel bar = new JPanel(new FlowLayout(FlowLayout.LEFT, 10, 0));
+        bar.setOpaque(false);
+        bar.add(previousButton);
+        bar.add(pageLabel);
+        bar.add(nextButton);
+        return bar;
+    }
+    
+    /** Switches the view and shows the details of the turf in the given table row. */
+    private void showTurfDetails(int row) {
+        Turf turf = turfTableModel.getTurfAt(row);
+        // Metrics come from the table model's per-turf cache; nothing is recomputed per click
+        boolean ready = turfTableModel.isMetricsReady();
+        updateDetailPanelContent(turf,
+            ready ? String.valueOf(turfTableModel.getBookingsAt(row)) : "…",
+            ready ? String.format("Rs. %.2f", turfTableModel.getIncomeAt(row)) : "…");
+        cardLayout.show(cardPanel, DETAIL_VIEW);
+    }
+    
+    /** Dynamically populates the shared detailViewPanel with data for the selected turf. */
+    private void updateDetailPanelContent(Turf turf, String bookings, String income) {
+        
+        detailViewPanel.removeAll();
+        
+        JPanel mainPanel = new JPanel();
+        mainPanel.setLayout(new BoxLayout(mainPanel, BoxLayout.Y_AXIS)); 
+        mainPanel.setOpaque(false);
+        
+        // Title
+        JLabel titleLabel = new JLabel(turf.name + " Performance");
+        titleLabel.setFont(new Font("SansSerif", Font.BOLD, 22));
+        titleLabel.setForeground(ACCENT_COLOR);
+        titleLabel.setAlignmentX(Component.LEFT_ALIGNMENT);
+        mainPanel.add(titleLabel);
+        mainPanel.add(Box.createVerticalStrut(20)); 
+
+        // Metrics Panel (stacked down by down)
+        JPanel metricPanel = new JPanel(new GridLayout(2, 1, 0, 15)); 
+        metricPanel.setOpaque(false);
+        
+        // Metric Cards for the specific turf
+        metricPanel.add(createMetricCard("Total Bookings", bookings, ACCENT_COLOR)); 
+        metricPanel.add(createMetricCard("Total Income", income, ACCENT_COLOR)); 
+
+        mainPanel.add(metricPanel);
+        mainPanel.add(Box.createVerticalStrut(30));
+
+        // Back Button
+        JButton backButton = new JButton("← Back to All Turfs");
+        backButton.setFont(new Font("SansSerif", Font.BOLD, 14));
+        backButton.addActionListener(e -> cardLayout.show(cardPanel, LANDING_VIEW));
+        
+        backButton.setBackground(NEUTRAL_BUTTON_COLOR); 
+        backButton.setForeground(TEXT_COLOR_MAIN);
+        backButton.setFocusPainted(false);
+        backButton.setAlignmentX(Component.LEFT_ALIGNMENT);
+        
+        mainPanel.add(backButton);
+        
+        detailViewPanel.add(mainPanel, BorderLayout.NORTH);
+        
+        detailViewPanel.revalidate();
+        detailViewPanel.repaint();
+    }
+
+
+    /** Creates a visually enhanced card for metric display. */
+    private JPanel createMetricCard(String title, String value, Color accentColor) {
+        JPanel card = new JPanel();
+        card.setLayout(new BoxLayout(card, BoxLayout.Y_AXIS));
+        card.setBackground(Color.WHITE); 
+        
+        // Border styling
+        card.setBorder(BorderFactory.createCompoundBorder(
+                BorderFactory.createLineBorder(new Color(200, 200, 200), 1),
+                BorderFactory.createEmptyBorder(15, 10, 15, 10)
+        ));
+        
+        // Title Label
+        JLabel titleLabel = new JLabel(title);
+        titleLabel.setFont(new Font("SansSerif", Font.PLAIN, 12));
+        titleLabel.setForeground(TEXT_COLOR_MAIN);
+        titleLabel.setAlignmentX(Component.CENTER_ALIGNMENT);
+
+        // Value Label
+        JLabel valueLabel = new JLabel(value);
+        valueLabel.setFont(new Font("SansSerif", Font.BOLD, 28));
+        valueLabel.setForeground(accentColor.darker()); 
+        valueLabel.setAlignmentX(Component.CENTER_ALIGNMENT);
+
+        card.add(titleLabel);
+        card.add(Box.createVerticalStrut(5));
+        card.add(valueLabel);
+        
+        return card;
+    }
+
+    public static void main(String[] args) {
+        StartupTimer.watchFirstPaint("TurfOwnerDashboard");
+        Metrics.start();
+        Metrics.startEdtProbe();
+        EdtWatchdog.installIfEnabled();
+        SwingUtilities.invokeLater(() -> {
+            TurfOwnerDashboard dashboard = new TurfOwnerDashboard();
+            dashboard.setVisible(true);
+        });
+    }
+}
@@ -0,0 +1,22 @@
+package turf;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * One page of turfs from the catalog plus the opaque cursor that fetches the next page.
+ * The cursor is null on the last page.
+ */
+public class TurfPage {
+    private final List<TurfModel> turfs;
+    private final String nextCursor;
+
+    public TurfPage(List<TurfModel> turfs, String nextCursor) {
+        this.turfs = Collections.unmodifiableList(turfs);
+        this.nextCursor = nextCursor;
+    }
+
+    public List<TurfModel> getTurfs() { return turfs; }
+    public String getNextCursor() { return nextCursor; }
+    public boolean hasMore() { return nextCursor != null; }
+}
@@ -0,0 +1,278 @@
+package turf;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory trigram index over turf names and addresses for the customer search box.
+ * Every word is indexed as its trigrams with two leading pad characters ("  f", " fo",
+ * "foo", ...), so a query matches word prefixes ("cham" finds "Champions") and tolerates
+ * typos (most trigrams of "chmpions" still hit). Documents are scored by how many of the
+ * query's trigrams they contain, name hits counting double, and the top k are kept in a
+ * small heap. Turfs can be added (or replaced) at any time without a rebuild; searches
+ * run concurrently under a read lock.
+ */
+public class TurfSearchIndex {
+
+    // A document needs this share of the query's trigrams (in its name or its address) to match
+    private static final double MIN_MATCH_RATIO = 0.6;
+    private static final int NAME_WEIGHT = 2;
+    private static final int ADDRESS_WEIGHT = 1;
+    private static final int MAX_QUERY_LENGTH = 200;
+
+    /** Growable list of dense document numbers for one trigram. */
+    private static final class Postings {
+        int[] docs = new int[4];
+        int size;
+
+        void add(int doc) {
+            if (size == docs.length) {
+                docs = Arrays.copyOf(docs, size * 2);
+            }
+            docs[size++] = doc;
+        }
+    }
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, Postings> nameGrams = new HashMap<>();
+    private final Map<String, Postings> addressGrams = new HashMap<>();
+    private final Map<Integer, Integer> docByTurfId = new HashMap<>();
+    private final BitSet deleted = new BitSet();
+    private TurfModel[] docs = new TurfModel[1024];
+    private int docCount;
+    private int liveCount;
+    private int maxTurfId;
+
+    /** Indexes a turf, replacing any earlier version with the same id. */
+    public void add(TurfModel turf) {
+        lock.writeLock().lock();
+        try {
+            addLocked(turf);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void addAll(Iterable<TurfModel> turfs) {
+        lock.writeLock().lock();
+        try {
+            for (TurfModel turf : turfs) {
+                addLocked(turf);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /** Drops every turf and indexes turfs instead, e.g. for a periodic full reload. */
+    public void replaceAll(Iterable<TurfModel> turfs) {
+        lock.writeLock().lock();
+        try {
+            nameGrams.clear();
+            addressGrams.clear();
+            docByTurfId.clear();
+            deleted.clear();
+            docs = new TurfModel[1024];
+            docCount = 0;
+            liveCount = 0;
+            maxTurfId = 0;
+            for (TurfModel turf : turfs) {
+                addLocked(turf);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public boolean contains(int turfId) {
+        lock.readLock().lock();
+        try {
+            return docByTurfId.containsKey(turfId);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public void remove(int turfId) {
+        lock.writeLock().lock();
+        try {
+            Integer doc = docByTurfId.remove(turfId);
+            if (doc != null) {
+                deleted.set(doc);
+                docs[doc] = null;
+                liveCount--;
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /** Number of indexed (live) turfs. */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return liveCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** Highest turf id indexed so far; TurfService fetches from a little below it. */
+    public int getMaxTurfId() {
+        lock.readLock().lock();
+        try {
+            return maxTurfId;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void addLocked(TurfModel turf) {
+        Integer previous = docByTurfId.get(turf.getId());
+        if (previous != null) {
+            // Old postings stay behind but are skipped as deleted
+            deleted.set(previous);
+            docs[previous] = null;
+            liveCount--;
+        }
+        if (docCount == docs.length) {
+            docs = Arrays.copyOf(docs, docCount * 2);
+        }
+        int doc = docCount++;
+        docs[doc] = turf;
+        docByTurfId.put(turf.getId(), doc);
+        liveCount++;
+        maxTurfId = Math.max(maxTurfId, turf.getId());
+        for (String gram : trigrams(turf.getName())) {
+            nameGrams.computeIfAbsent(gram, key -> new Postings()).add(doc);
+        }
+        for (String gram : trigrams(turf.getAddress())) {
+            addressGrams.computeIfAbsent(gram, key -> new Postings()).add(doc);
+        }
+    }
+
+    // --- Search ---
+
+    /** Best matches for the query by name or address, at most limit of them, best first. */
+    public List<TurfModel> search(String query, int limit) {
+        Set<String> grams = trigrams(query.length() > MAX_QUERY_LENGTH ? query.substring(0, MAX_QUERY_LENGTH) : query);
+        if (grams.isEmpty() || limit <= 0) {
+            return Collections.emptyList();
+        }
+        int needed = (int) Math.ceil(grams.size() * MIN_MATCH_RATIO);
+
+        lock.readLock().lock();
+        try {
+            // Per-document hit counts: name hits in the high half, address hits in the low half
+            int[] hits = new int[docCount];
+            int[] touched = new int[16];
+            int touchedCount = 0;
+            for (String gram : grams) {
+                Postings name = nameGrams.get(gram);
+                if (name != null) {
+                    for (int i = 0; i < name.size; i++) {
+                        int doc = name.docs[i];
+                        if (hits[doc] == 0) {
+                            if (touchedCount == touched.length) {
+                                touched = Arrays.copyOf(touched, touchedCount * 2);
+                            }
+                            touched[touchedCount++] = doc;
+                        }
+                        hits[doc] += 1 << 16;
+                    }
+                }
+                Postings address = addressGrams.get(gram);
+                if (address != null) {
+                    for (int i = 0; i < address.size; i++) {
+                        int doc = address.docs[i];
+                        if (hits[doc] == 0) {
+                            if (touchedCount == touched.length) {
+                                touched = Arrays.copyOf(touched, touchedCount * 2);
+                            }
+                            touched[touchedCount++] = doc;
+                        }
+                        hits[doc] += 1;
+                    }
+                }
+            }
+
+            // Keep the best `limit` in a min-heap: lowest score (then longest name) on top
+            PriorityQueue<Integer> best = new PriorityQueue<>(limit + 1, (a, b) -> {
+                int byScore = Integer.compare(score(hits[a]), score(hits[b]));
+                if (byScore != 0) {
+                    return byScore;
+                }
+                int byLength = Integer.compare(docs[b].getName().length(), docs[a].getName().length());
+                return byLength != 0 ? byLength : Integer.compare(docs[b].getId(), docs[a].getId());
+            });
+            for (int i = 0; i < touchedCount; i++) {
+                int doc = touched[i];
+                if (deleted.get(doc)) {
+                    continue;
+                }
+                int nameHits = hits[doc] >>> 16;
+                int addressHits = hits[doc] & 0xFFFF;
+                if (Math.max(nameHits, addressHits) < needed) {
+                    continue;
+                }
+                best.add(doc);
+                if (best.size() > limit) {
+                    best.poll();
+                }
+            }
+
+            TurfModel[] results = new TurfModel[best.size()];
+            for (int i = results.length - 1; i >= 0; i--) {
+                results[i] = docs[best.poll()];
+            }
+            return Arrays.asList(results);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static int score(int packedHits) {
+        return NAME_WEIGHT * (packedHits >>> 16) + ADDRESS_WEIGHT * (packedHits & 0xFFFF);
+    }
+
+    // --- Tokenizing ---
+
+    /** Distinct padded trigrams of every word in the text (accents stripped, case folded). */
+    static Set<String> trigrams(String text) {
+        Set<String> grams = new HashSet<>();
+        if (text == null) {
+            return grams;
+        }
+        for (String word : words(text)) {
+            String padded = "  " + word;
+            for (int i = 0; i + 3 <= padded.length(); i++) {
+                grams.add(padded.substring(i, i + 3));
+            }
+        }
+        return grams;
+    }
+
+    private static List<String> words(String text) {
+        String folded = Normalizer.normalize(text, Normalizer.Form.NFD)
+            .replaceAll("\\p{M}+", "")
+            .toLowerCase(Locale.ROOT);
+        List<String> words = new ArrayList<>();
+        for (String word : folded.split("[^\\p{L}\\p{N}]+")) {
+            if (!word.isEmpty()) {
+                words.add(word);
+            }
+        }
+        return words;
+    }
+}
@@ -0,0 +1,323 @@
+package turf;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/** * Adheres to SRP: Handles all communication between the application and the database. 
+ */
+public class TurfService {
+    
+    // Prepared Statement for querying turfs by category
+    private static final String SELECT_TURFS_SQL = "SELECT id, name, address, hourly_rate, operating_hours, category FROM turfs WHERE category = ? ORDER BY id";
+
+    // Keyset (seek) page: rows after the last seen id, served by the (category, id) index
+    private static final String SELECT_TURF_PAGE_SQL = "SELECT id, name, address, hourly_rate, operating_hours, category FROM turfs WHERE category = ? AND id > ? ORDER BY id LIMIT ?";
+
+    private static final String SELECT_TURF_BY_ID_SQL = "SELECT id, name, address, hourly_rate, operating_hours, category FROM turfs WHERE id = ?";
+
+    private static final String INSERT_TURF_SQL =
+        "INSERT INTO turfs(owner_username, name, address, hourly_rate, operating_hours, category) VALUES (?, ?, ?, ?, ?, ?)";
+
+    /** Category for turfs registered without one (the owner form and CSVs without a category column). */
+    static final String DEFAULT_CATEGORY = "Football";
+
+    // Turfs for the search index from an id on (0 for a full reload)
+    private static final String SELECT_TURFS_AFTER_ID_SQL = "SELECT id, name, address, hourly_rate, operating_hours, category FROM turfs WHERE id > ? ORDER BY id";
+
+    // Rows per network round trip when streaming (MySQL honours this with useCursorFetch=true)
+    private static final int STREAM_FETCH_SIZE = 500;
+    private static final String CURSOR_PREFIX = "k1:";
+
+    // Read-through cache of category -> turfs; the catalog rarely changes
+    private static final TurfCatalogCache<List<TurfModel>> CATALOG_CACHE = new TurfCatalogCache<>(
+        Integer.getInteger("turf.cache.maxEntries", 64),
+        Long.getLong("turf.cache.ttlMs", 60_000L));
+
+    // Pages keyed by "category@cursor#size", invalidated together with the category lists
+    private static final TurfCatalogCache<TurfPage> PAGE_CACHE = new TurfCatalogCache<>(
+        Integer.getInteger("turf.cache.maxPages", 512),
+        Long.getLong("turf.cache.ttlMs", 60_000L));
+
+    // Name/address search over the whole catalog, loaded on first search and topped up incrementally
+    private static final TurfSearchIndex SEARCH_INDEX = new TurfSearchIndex();
+    private static final Object SEARCH_REFRESH_LOCK = new Object();
+    private static volatile boolean searchIndexStale = true;
+    private static volatile long lastFullIndexLoadNanos;
+    private static volatile boolean searchIndexLoaded;
+
+    // Ids are assigned at INSERT but become visible at COMMIT, so a slow transaction can commit
+    // below the indexed maximum. Refreshes re-read this many ids under it, and the whole index is
+    // reloaded now and then for anything older (and for edits and deletions).
+    private static final int SEARCH_OVERLAP_IDS = Integer.getInteger("turf.search.overlapIds", 1000);
+    private static final long SEARCH_REBUILD_NANOS =
+        TimeUnit.MILLISECONDS.toNanos(Long.getLong("turf.search.rebuildMs", 600_000L));
+
+    // Routing session for catalog reads: after invalidateCatalog() they stay on the primary for the
+    // read-your-writes window, so the reload cannot fetch a replica's copy without the new turfs
+    private static final String CATALOG_SESSION = "*catalog";
+
+    private static final LatencyHistogram PAGE_TIME = Metrics.histogram("catalog.page");
+
+    static {
+        Metrics.gauge("cache.catalog.hits", CATALOG_CACHE::getHitCount);
+        Metrics.gauge("cache.catalog.misses", CATALOG_CACHE::getMissCount);
+        Metrics.gauge("cache.page.hits", PAGE_CACHE::getHitCount);
+        Metrics.gauge("cache.page.misses", PAGE_CACHE::getMissCount);
+        Metrics.gauge("cache.page.evictions", PAGE_CACHE::getEvictionCount);
+    }
+
+    /** Cache metrics (hits, misses, evictions) for sizing. */
+    public static TurfCatalogCache<List<TurfModel>> catalogCache() {
+        return CATALOG_CACHE;
+    }
+
+    /** Page cache metrics. */
+    public static TurfCatalogCache<TurfPage> pageCache() {
+        return PAGE_CACHE;
+    }
+
+    /** Drops cached catalog data after turfs are added or changed; the reloads read the primary. */
+    public static void invalidateCatalog() {
+        DBConnection.recordWrite(CATALOG_SESSION); // before dropping, so no reload can miss it
+        CATALOG_CACHE.invalidateAll();
+        PAGE_CACHE.invalidateAll();
+        searchIndexStale = true; // the next search picks up the new turfs
+    }
+
+    /**
+     * Inserts a turf for the owner (default category, no operating hours) and returns its
+     * generated id. Invalidates the catalog so customers see it. Blocking.
+     */
+    public static int registerTurf(String ownerUsername, String name, String address, double hourlyRate) throws SQLException {
+        int turfId;
+        try (Connection conn = DBConnection.getConnection();
+             PreparedStatement pst = conn.prepareStatement(INSERT_TURF_SQL, Statement.RETURN_GENERATED_KEYS)) {
+            pst.setString(1, ownerUsername);
+            pst.setString(2, name);
+            pst.setString(3, address);
+            pst.setDouble(4, hourlyRate);
+            pst.setString(5, null);
+            pst.setString(6, DEFAULT_CATEGORY);
+            pst.executeUpdate();
+            try (ResultSet keys = pst.getGeneratedKeys()) {
+                if (!keys.next()) {
+                    throw new SQLException("No id was generated for the new turf");
+                }
+                turfId = keys.getInt(1);
+            }
+        }
+        DBConnection.recordWrite(ownerUsername);
+        invalidateCatalog();
+        return turfId;
+    }
+
+    /** Runs searchTurfs on the data-access worker pool. */
+    public static CompletableFuture<List<TurfModel>> searchTurfsAsync(String query, int limit) {
+        return AsyncDataAccess.supplyAsync(() -> searchTurfs(query, limit));
+    }
+
+    /**
+     * Top matches for a free-text query against turf names and addresses (prefix and
+     * typo tolerant), across all categories. The first call loads the catalog into the
+     * in-memory index; later calls only fetch turfs added since. Blocking on a refresh.
+     */
+    public static List<TurfModel> searchTurfs(String query, int limit) throws SQLException {
+        if (searchIndexStale || searchIndexRebuildDue()) {
+            refreshSearchIndex();
+        }
+        return SEARCH_INDEX.search(query, limit);
+    }
+
+    /**
+     * Brings the search index up to date and returns how many turfs were loaded. Usually
+     * this adds the turfs not yet indexed from SEARCH_OVERLAP_IDS below the highest indexed
+     * id on, which also catches inserts that committed out of id order. The first call, and
+     * any call after turf.search.rebuildMs, reloads the whole catalog instead. Blocking.
+     */
+    public static int refreshSearchIndex() throws SQLException {
+        synchronized (SEARCH_REFRESH_LOCK) {
+            searchIndexStale = false; // cleared first so an invalidation during the load is not lost
+            boolean full = searchIndexRebuildDue();
+            long start = System.nanoTime();
+            List<TurfModel> loaded = new ArrayList<>();
+            try (Connection conn = DBConnection.getReadConnection(CATALOG_SESSION);
+                 PreparedStatement pst = conn.prepareStatement(SELECT_TURFS_AFTER_ID_SQL, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY)) {
+                pst.setInt(1, full ? 0 : Math.max(0, SEARCH_INDEX.getMaxTurfId() - SEARCH_OVERLAP_IDS));
+                pst.setFetchSize(STREAM_FETCH_SIZE);
+                try (ResultSet rs = pst.executeQuery()) {
+                    while (rs.next()) {
+                        TurfModel turf = mapTurf(rs);
+                        if (full || !SEARCH_INDEX.contains(turf.getId())) {
+                            loaded.add(turf);
+                        }
+                    }
+                }
+            } catch (SQLException e) {
+                searchIndexStale = true;
+                System.err.println("SQL Error while refreshing the search index: " + e.getMessage());
+                throw e;
+            }
+            if (full) {
+                SEARCH_INDEX.replaceAll(loaded);
+                lastFullIndexLoadNanos = start;
+                searchIndexLoaded = true;
+            } else {
+                SEARCH_INDEX.addAll(loaded);
+            }
+            return loaded.size();
+        }
+    }
+
+    private static boolean searchIndexRebuildDue() {
+        return !searchIndexLoaded || System.nanoTime() - lastFullIndexLoadNanos >= SEARCH_REBUILD_NANOS;
+    }
+
+    /** The shared search index (for metrics and benchmarks). */
+    public static TurfSearchIndex searchIndex() {
+        return SEARCH_INDEX;
+    }
+    
+    /** Runs getTurfsByCategory on the data-access worker pool instead of the caller's thread. */
+    public static CompletableFuture<List<TurfModel>> getTurfsByCategoryAsync(String category) {
+        return AsyncDataAccess.supplyAsync(() -> getTurfsByCategory(category));
+    }
+
+    /** Runs getTurfPage on the data-access worker pool. */
+    public static CompletableFuture<TurfPage> getTurfPageAsync(String category, String cursor, int pageSize) {
+        return AsyncDataAccess.supplyAsync(() -> getTurfPage(category, cursor, pageSize));
+    }
+
+    /**
+     * Returns up to pageSize turfs of a category, ordered by id, starting after the cursor
+     * (null for the first page). Uses keyset pagination, so deep pages cost the same as
+     * the first. Pass the page's next cursor back in to continue. Blocking.
+     */
+    public static TurfPage getTurfPage(String category, String cursor, int pageSize) throws SQLException {
+        if (pageSize <= 0) {
+            throw new IllegalArgumentException("pageSize must be positive: " + pageSize);
+        }
+        int afterId = decodeCursor(cursor);
+        long start = System.nanoTime();
+        try {
+            return PAGE_CACHE.get(category + "@" + afterId + "#" + pageSize, () -> queryTurfPage(category, afterId, pageSize));
+        } finally {
+            Metrics.recordSince(PAGE_TIME, start);
+        }
+    }
+
+    private static TurfPage queryTurfPage(String category, int afterId, int pageSize) throws SQLException {
+        List<TurfModel> turfs = new ArrayList<>(pageSize);
+        boolean hasMore = false;
+        try (Connection conn = DBConnection.getReadConnection(CATALOG_SESSION); 
+             PreparedStatement pst = conn.prepareStatement(SELECT_TURF_PAGE_SQL)) {
+            pst.setString(1, category);
+            pst.setInt(2, afterId);
+            pst.setInt(3, pageSize + 1); // one extra row tells us whether another page exists
+            try (ResultSet rs = pst.executeQuery()) {
+                while (rs.next()) {
+                    if (turfs.size() == pageSize) {
+                        hasMore = true;
+                        break;
+                    }
+                    turfs.add(mapTurf(rs));
+                }
+            }
+        } catch (SQLException e) {
+            System.err.println("SQL Error while fetching turf page: " + e.getMessage());
+            throw e;
+        }
+        String next = hasMore ? encodeCursor(turfs.get(turfs.size() - 1).getId()) : null;
+        return new TurfPage(turfs, next);
+    }
+
+    /**
+     * Streams every turf of a category to the consumer as rows are read from the
+     * ResultSet, without materialising the full result. Returns the row count. Blocking.
+     */
+    public static int streamTurfsByCategory(String category, Consumer<TurfModel> consumer) throws SQLException {
+        int count = 0;
+        // Use try-with-resources to ensure connection and statement are closed
+        try (Connection conn = DBConnection.getReadConnection(CATALOG_SESSION); 
+             PreparedStatement pst = conn.prepareStatement(SELECT_TURFS_SQL, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY)) {
+            
+            pst.setString(1, category);
+            pst.setFetchSize(STREAM_FETCH_SIZE);
+            
+            try (ResultSet rs = pst.executeQuery()) {
+                while (rs.next()) {
+                    consumer.accept(mapTurf(rs));
+                    count++;
+                }
+            }
+        } catch (SQLException e) {
+            System.err.println("SQL Error while fetching turfs: " + e.getMessage());
+            throw e;
+        }
+        return count;
+    }
+
+    /**
+     * Whole category as a list, built on the streaming query.
+     * Blocking (on a cache miss); never call this on the EDT. The returned list is read-only.
+     */
+    public static List<TurfModel> getTurfsByCategory(String category) throws SQLException {
+        return CATALOG_CACHE.get(category, () -> {
+            List<TurfModel> turfs = new ArrayList<>();
+            streamTurfsByCategory(category, turfs::add);
+            return Collections.unmodifiableList(turfs);
+        });
+    }
+
+    /** Looks up a single turf, or returns null if there is none with that id. Blocking. */
+    public static TurfModel getTurfById(int turfId) throws SQLException {
+        try (Connection conn = DBConnection.getReadConnection(CATALOG_SESSION);
+             PreparedStatement pst = conn.prepareStatement(SELECT_TURF_BY_ID_SQL)) {
+            pst.setInt(1, turfId);
+            try (ResultSet rs = pst.executeQuery()) {
+                return rs.next() ? mapTurf(rs) : null;
+            }
+        }
+    }
+
+    /** Maps the current ResultSet row to a TurfModel object. */
+    private static TurfModel mapTurf(ResultSet rs) throws SQLException {
+        return new TurfModel(
+            rs.getInt("id"),
+            rs.getString("name"),
+            rs.getString("address"),
+            rs.getDouble("hourly_rate"),
+            rs.getString("operating_hours"),
+            rs.getString("category")
+        );
+    }
+
+    private static String encodeCursor(int lastId) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString((CURSOR_PREFIX + lastId).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static int decodeCursor(String cursor) {
+        if (cursor == null) {
+            return 0;
+        }
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            if (decoded.startsWith(CURSOR_PREFIX)) {
+                return Integer.parseInt(decoded.substring(CURSOR_PREFIX.length()));
+            }
+        } catch (IllegalArgumentException e) {
+            // Falls through to the error below (covers NumberFormatException too)
+        }
+        throw new IllegalArgumentException("Invalid turf page cursor: " + cursor);
+    }
+}
@@ -0,0 +1,92 @@
+package turf;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+/**
+ * Short-lived, bounded memory of recent successful logins, so a repeat login does not
+ * pay the full PBKDF2 cost. Entries hold an HMAC (under a random per-process key) of
+ * username, stored hash and password, never the password itself. Because the stored
+ * hash is part of the MAC, a password change invalidates the entry automatically.
+ */
+public class VerifiedCredentialCache {
+
+    private final int maxEntries;
+    private final long ttlNanos;
+    private final SecretKeySpec key;
+    private final LinkedHashMap<String, Entry> entries;
+
+    private static final class Entry {
+        final byte[] mac;
+        final long expiresAtNanos;
+
+        Entry(byte[] mac, long expiresAtNanos) {
+            this.mac = mac;
+            this.expiresAtNanos = expiresAtNanos;
+        }
+    }
+
+    public VerifiedCredentialCache(int maxEntries, long ttlMillis) {
+        this.maxEntries = maxEntries;
+        this.ttlNanos = TimeUnit.MILLISECONDS.toNanos(ttlMillis);
+        byte[] secret = new byte[32];
+        new SecureRandom().nextBytes(secret);
+        this.key = new SecretKeySpec(secret, "HmacSHA256");
+        this.entries = new LinkedHashMap<String, Entry>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > VerifiedCredentialCache.this.maxEntries;
+            }
+        };
+    }
+
+    /** True if this exact username/stored-hash/password combination was verified recently. */
+    public boolean isVerified(String username, String storedHash, char[] password) {
+        Entry entry;
+        synchronized (this) {
+            entry = entries.get(username);
+            if (entry != null && System.nanoTime() - entry.expiresAtNanos >= 0) {
+                entries.remove(username);
+                entry = null;
+            }
+        }
+        return entry != null && MessageDigest.isEqual(entry.mac, mac(username, storedHash, password));
+    }
+
+    /** Remembers a successful verification. */
+    public void recordSuccess(String username, String storedHash, char[] password) {
+        byte[] mac = mac(username, storedHash, password);
+        synchronized (this) {
+            entries.put(username, new Entry(mac, System.nanoTime() + ttlNanos));
+        }
+    }
+
+    public synchronized void invalidate(String username) {
+        entries.remove(username);
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    private byte[] mac(String username, String storedHash, char[] password) {
+        try {
+            Mac hmac = Mac.getInstance("HmacSHA256");
+            hmac.init(key);
+            hmac.update(username.getBytes(StandardCharsets.UTF_8));
+            hmac.update((byte) 0);
+            hmac.update(storedHash.getBytes(StandardCharsets.UTF_8));
+            hmac.update((byte) 0);
+            return hmac.doFinal(new String(password).getBytes(StandardCharsets.UTF_8));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HmacSHA256 is not available in this JVM.", e);
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package turf;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/** Booking commits against the embedded test database. */
+class BookingServiceTest {
+
+    private static final int CONTENDERS = 200;
+    private static final int ROUNDS = 10;
+
+    private int turfId;
+
+    @BeforeEach
+    void seed() throws Exception {
+        TestDatabase.reset();
+        TestDatabase.seedTurfs(1);
+        turfId = TurfService.getTurfsByCategory("Football").get(0).getId();
+    }
+
+    /**
+     * 200 threads race to book the same slot, released together; exactly one may win and
+     * the rest must see the slot as taken. Repeated for several slots; prints attempts/sec.
+     */
+    @Test
+    void exactlyOneOfManyConcurrentBookingsWins() throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(CONTENDERS);
+        try {
+            long start = System.nanoTime();
+            for (int round = 0; round < ROUNDS; round++) {
+                LocalDate date = LocalDate.now().plusDays(365 + round);
+                CountDownLatch go = new CountDownLatch(1);
+                List<Future<BookingService.BookingResult>> attempts = new ArrayList<>();
+                for (int i = 0; i < CONTENDERS; i++) {
+                    String user = "user" + i;
+                    attempts.add(pool.submit(() -> {
+                        go.await();
+                        return BookingService.commitBooking(turfId, user, date, 18, 1500.0);
+                    }));
+                }
+                go.countDown();
+                int winners = 0;
+                for (Future<BookingService.BookingResult> attempt : attempts) {
+                    if (attempt.get().isConfirmed()) {
+                        winners++;
+                    }
+                }
+                assertEquals(1, winners, "confirmed bookings for one slot in round " + round);
+                assertEquals(1, bookingsFor(date, 18), "booking rows for one slot in round " + round);
+            }
+            double seconds = (System.nanoTime() - start) / 1e9;
+            System.err.printf("📊 %d rounds of %d concurrent bookings for one slot: %,.0f attempts/s%n",
+                ROUNDS, CONTENDERS, ROUNDS * CONTENDERS / seconds);
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    private int bookingsFor(LocalDate date, int slotHour) throws SQLException {
+        try (Connection conn = DBConnection.getConnection();
+             PreparedStatement pst = conn.prepareStatement(
+                 "SELECT COUNT(*) FROM bookings WHERE turf_id = ? AND booking_date = ? AND slot_hour = ?")) {
+            pst.setInt(1, turfId);
+            pst.setObject(2, date);
+            pst.setInt(3, slotHour);
+            try (ResultSet rs = pst.executeQuery()) {
+                rs.next();
+                return rs.getInt(1);
+            }
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package turf;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import javax.swing.JButton;
+import javax.swing.SwingUtilities;
+import org.junit.jupiter.api.Test;
+
+class EdtWatchdogTest {
+
+    /**
+     * Clicks a button whose listener blocks the EDT for 300 ms; the stall must be reported
+     * with the listener's method as its handler. Runs headless. The watchdog stays installed
+     * for the rest of the test JVM.
+     */
+    @Test
+    void reportsSlowListenerByMethodName() throws Exception {
+        EdtWatchdog watchdog = EdtWatchdog.install(100);
+        JButton confirm = new JButton("Confirm Booking");
+        confirm.addActionListener(e -> slowConfirmBooking());
+        SwingUtilities.invokeAndWait(() -> confirm.doClick(0));
+        SwingUtilities.invokeAndWait(() -> { }); // the stall is recorded once the click's event returns
+
+        List<EdtWatchdog.Stall> stalls = watchdog.recentStalls();
+        assertFalse(stalls.isEmpty(), "no stall recorded");
+        EdtWatchdog.Stall stall = stalls.get(stalls.size() - 1);
+        assertTrue(stall.handler.startsWith("EdtWatchdogTest.slowConfirmBooking"), "stall reported as " + stall);
+        assertTrue(stall.durationMillis >= 250, "stall of " + stall.durationMillis + " ms");
+    }
+
+    private static void slowConfirmBooking() {
+        try {
+            Thread.sleep(300);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
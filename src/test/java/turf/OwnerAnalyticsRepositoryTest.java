@@ -0,0 +1,104 @@
+package turf;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/** The owner dashboard's GROUP BY aggregates, against the embedded test database. */
+class OwnerAnalyticsRepositoryTest {
+
+    private static final LocalDate JAN_1 = LocalDate.of(2025, 1, 1);
+    private static final LocalDate JAN_10 = LocalDate.of(2025, 1, 10);
+    private static final LocalDate JAN_20 = LocalDate.of(2025, 1, 20);
+    private static final LocalDate JAN_31 = LocalDate.of(2025, 1, 31);
+
+    private String first;   // owner0's turfs
+    private String second;
+    private String others;  // owner1's turf
+
+    /**
+     * owner0's first turf: bookings on Jan 1, 10, 20 and 31; its second turf: one booking on
+     * Jan 31. owner1's turf has bookings too, which owner0 must never see.
+     */
+    @BeforeEach
+    void seed() throws Exception {
+        TestDatabase.reset();
+        TestDatabase.seedTurfs(20); // owner0 owns turfs 0 and 10, owner1 owns 1 and 11
+        List<TurfOwnerDashboard.Turf> owned = OwnerAnalyticsRepository.loadOwnerTurfs("owner0");
+        assertEquals(2, owned.size());
+        first = owned.get(0).id;
+        second = owned.get(1).id;
+        others = OwnerAnalyticsRepository.loadOwnerTurfs("owner1").get(0).id;
+
+        book(first, JAN_1, 6, 1000.0);
+        book(first, JAN_10, 7, 1250.5);
+        book(first, JAN_20, 8, 800.0);
+        book(first, JAN_31, 9, 1500.0);
+        book(second, JAN_31, 18, 2000.0);
+        book(others, JAN_10, 6, 9999.0);
+        book(others, JAN_20, 6, 9999.0);
+    }
+
+    @Test
+    void allTimeCountsAndRevenuePerTurf() throws Exception {
+        Map<String, OwnerAnalyticsRepository.TurfStats> stats = byTurf(OwnerAnalyticsRepository.loadTurfStats("owner0"));
+        assertEquals(2, stats.size());
+        assertEquals(4, stats.get(first).bookings);
+        assertEquals(4550.5, stats.get(first).income, 0.001);
+        assertEquals(1, stats.get(second).bookings);
+        assertEquals(2000.0, stats.get(second).income, 0.001);
+        assertFalse(stats.containsKey(others));
+    }
+
+    @Test
+    void rangeIncludesBothBoundaryDates() throws Exception {
+        Map<String, OwnerAnalyticsRepository.TurfStats> stats = byTurf(OwnerAnalyticsRepository.loadTurfStats("owner0", JAN_10, JAN_20));
+        assertEquals(1, stats.size(), "the second turf has no bookings in range and is omitted");
+        assertEquals(2, stats.get(first).bookings);
+        assertEquals(2050.5, stats.get(first).income, 0.001);
+
+        stats = byTurf(OwnerAnalyticsRepository.loadTurfStats("owner0", JAN_31, JAN_31));
+        assertEquals(1, stats.get(first).bookings);
+        assertEquals(1, stats.get(second).bookings);
+    }
+
+    @Test
+    void openBoundsReachTheEnds() throws Exception {
+        Map<String, OwnerAnalyticsRepository.TurfStats> until = byTurf(OwnerAnalyticsRepository.loadTurfStats("owner0", null, JAN_10));
+        assertEquals(2, until.get(first).bookings);
+        assertFalse(until.containsKey(second));
+
+        Map<String, OwnerAnalyticsRepository.TurfStats> since = byTurf(OwnerAnalyticsRepository.loadTurfStats("owner0", JAN_20, null));
+        assertEquals(2, since.get(first).bookings);
+        assertEquals(2300.0, since.get(first).income, 0.001);
+        assertEquals(1, since.get(second).bookings);
+    }
+
+    @Test
+    void ownerDataCarriesTurfsAndRangeStats() throws Exception {
+        OwnerAnalyticsRepository.OwnerData data = OwnerAnalyticsRepository.loadOwnerData("owner0", JAN_1, JAN_1);
+        assertEquals(2, data.turfs.size());
+        assertEquals(1, data.stats.size());
+        assertEquals(first, data.stats.get(0).turfId);
+        assertEquals(1000.0, data.stats.get(0).income, 0.001);
+    }
+
+    private static void book(String turfId, LocalDate date, int slotHour, double totalCost) throws Exception {
+        TestDatabase.execute("INSERT INTO bookings(turf_id, username, booking_date, slot_hour, total_cost) VALUES (?, 'user0', ?, ?, ?)",
+            Integer.parseInt(turfId), date, slotHour, totalCost);
+    }
+
+    private static Map<String, OwnerAnalyticsRepository.TurfStats> byTurf(List<OwnerAnalyticsRepository.TurfStats> stats) {
+        Map<String, OwnerAnalyticsRepository.TurfStats> byTurf = new HashMap<>();
+        for (OwnerAnalyticsRepository.TurfStats stat : stats) {
+            byTurf.put(stat.turfId, stat);
+        }
+        return byTurf;
+    }
+}
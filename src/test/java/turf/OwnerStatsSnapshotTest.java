@@ -0,0 +1,126 @@
+package turf;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/** The dashboard's all-time stats snapshot plus tail, checked against the full GROUP BY. */
+class OwnerStatsSnapshotTest {
+
+    private static final LocalDate DAY = LocalDate.of(2025, 3, 1);
+
+    private List<TurfOwnerDashboard.Turf> owned; // owner0's turfs
+    private String others;                       // an owner1 turf
+    private int nextSlot;
+
+    @BeforeEach
+    void seed() throws Exception {
+        TestDatabase.reset();
+        TestDatabase.seedTurfs(40); // owner0 owns turfs 0, 10, 20 and 30
+        owned = OwnerAnalyticsRepository.loadOwnerTurfs("owner0");
+        others = OwnerAnalyticsRepository.loadOwnerTurfs("owner1").get(0).id;
+        for (int i = 0; i < 20; i++) {
+            book(owned.get(i % owned.size()).id, 1000 + i);
+            book(others, 500);
+        }
+    }
+
+    @Test
+    void snapshotMatchesTheGroupBy() throws Exception {
+        assertMatchesGroupBy(OwnerStatsSnapshot.loadTurfStats("owner0", 0));
+        assertTrue(Files.exists(OwnerStatsSnapshot.fileFor("owner0")));
+        assertMatchesGroupBy(OwnerStatsSnapshot.loadTurfStats("owner0", 0)); // from the file alone
+    }
+
+    /** 16 bytes per turf with bookings plus the header and checksum, not a fixed window. */
+    @Test
+    void fileIsSizedToItsTurfs() throws Exception {
+        OwnerStatsSnapshot.loadTurfStats("owner0", 0);
+        assertEquals(16 + owned.size() * 16 + 4, Files.size(OwnerStatsSnapshot.fileFor("owner0")));
+    }
+
+    @Test
+    void bookingsAfterTheSnapshotAreCounted() throws Exception {
+        OwnerStatsSnapshot.loadTurfStats("owner0", 0);
+        book(owned.get(0).id, 2500);
+        book(owned.get(3).id, 700);
+        book(others, 900);
+        assertMatchesGroupBy(OwnerStatsSnapshot.loadTurfStats("owner0", 0));
+        assertMatchesGroupBy(OwnerStatsSnapshot.loadTurfStats("owner0", 0));
+    }
+
+    /**
+     * A booking that commits after the snapshot with an id below the newest one, but within
+     * the lag, is still counted.
+     */
+    @Test
+    void lateCommitBelowTheNewestIdIsCounted() throws Exception {
+        book(owned.get(1).id, 100);
+        int lateId = maxBookingId() + 1;
+        book(owned.get(2).id, 100);
+        book(owned.get(3).id, 100);
+        TestDatabase.execute("DELETE FROM bookings WHERE id = ?", lateId);
+        OwnerStatsSnapshot.loadTurfStats("owner0", 5);
+
+        TestDatabase.execute("INSERT INTO bookings(id, turf_id, username, booking_date, slot_hour, total_cost) "
+            + "VALUES (?, ?, 'user0', ?, 23, 1234)", lateId, Integer.parseInt(owned.get(1).id), DAY.plusDays(400));
+        assertMatchesGroupBy(OwnerStatsSnapshot.loadTurfStats("owner0", 5));
+    }
+
+    @Test
+    void corruptSnapshotIsRebuilt() throws Exception {
+        OwnerStatsSnapshot.loadTurfStats("owner0", 0);
+        Path file = OwnerStatsSnapshot.fileFor("owner0");
+        byte[] bytes = Files.readAllBytes(file);
+        bytes[20] ^= 0x7f; // inside the first turf's record
+        Files.write(file, bytes);
+        assertMatchesGroupBy(OwnerStatsSnapshot.loadTurfStats("owner0", 0));
+
+        Files.write(file, new byte[] {1, 2, 3});
+        assertMatchesGroupBy(OwnerStatsSnapshot.loadTurfStats("owner0", 0));
+    }
+
+    private void book(String turfId, double totalCost) throws Exception {
+        int slot = nextSlot++;
+        TestDatabase.execute("INSERT INTO bookings(turf_id, username, booking_date, slot_hour, total_cost) VALUES (?, 'user0', ?, ?, ?)",
+            Integer.parseInt(turfId), DAY.plusDays(slot / 17), 6 + slot % 17, totalCost);
+    }
+
+    private static int maxBookingId() throws Exception {
+        try (Connection conn = DBConnection.getConnection();
+             Statement st = conn.createStatement();
+             ResultSet rs = st.executeQuery("SELECT MAX(id) FROM bookings")) {
+            rs.next();
+            return rs.getInt(1);
+        }
+    }
+
+    private static void assertMatchesGroupBy(List<OwnerAnalyticsRepository.TurfStats> actual) throws Exception {
+        Map<String, OwnerAnalyticsRepository.TurfStats> expected = byTurf(OwnerAnalyticsRepository.loadTurfStats("owner0", null, null));
+        Map<String, OwnerAnalyticsRepository.TurfStats> got = byTurf(actual);
+        assertEquals(expected.keySet(), got.keySet());
+        for (OwnerAnalyticsRepository.TurfStats stat : expected.values()) {
+            assertEquals(stat.bookings, got.get(stat.turfId).bookings, "bookings of turf " + stat.turfId);
+            assertEquals(stat.income, got.get(stat.turfId).income, 0.001, "income of turf " + stat.turfId);
+        }
+    }
+
+    private static Map<String, OwnerAnalyticsRepository.TurfStats> byTurf(List<OwnerAnalyticsRepository.TurfStats> stats) {
+        Map<String, OwnerAnalyticsRepository.TurfStats> byTurf = new HashMap<>();
+        for (OwnerAnalyticsRepository.TurfStats stat : stats) {
+            byTurf.put(stat.turfId, stat);
+        }
+        return byTurf;
+    }
+}
@@ -0,0 +1,139 @@
+package turf;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+/**
+ * The owner dashboard's turf table at thousands of turfs. The model has no listeners here,
+ * so it is driven from the test thread rather than the EDT.
+ */
+class OwnerTurfTableModelTest {
+
+    private static final int TURFS = 10_000;
+
+    @Test
+    void sortsTenThousandTurfsQuicklyAndDescending() {
+        String[] turfIds = new String[TURFS];
+        List<TurfOwnerDashboard.Turf> turfs = new ArrayList<>(TURFS);
+        BookingAggregates aggregates = new BookingAggregates(TURFS);
+        Random random = new Random(42);
+        for (int i = 0; i < TURFS; i++) {
+            turfIds[i] = "T" + (1000 + i);
+            turfs.add(new TurfOwnerDashboard.Turf(turfIds[i], "Turf " + i, "Street " + (i % 500), 1000 + (i % 5) * 250));
+            aggregates.add(turfIds[i], random.nextInt(5_000), random.nextInt(5_000_000) / 100.0);
+        }
+        OwnerTurfTableModel model = new OwnerTurfTableModel();
+        model.setTurfs(turfs);
+        model.installMetrics(OwnerTurfTableModel.computeMetrics(turfIds, aggregates));
+
+        double maxBookings = 0;
+        double maxIncome = 0;
+        for (String turfId : turfIds) {
+            maxBookings = Math.max(maxBookings, aggregates.bookings(turfId));
+            maxIncome = Math.max(maxIncome, aggregates.income(turfId));
+        }
+        for (int column : new int[] {OwnerTurfTableModel.BOOKINGS, OwnerTurfTableModel.INCOME}) {
+            // Median of 21 timed sorts after 20 warm-up sorts, so a GC pause cannot fail the check
+            long[] times = new long[21];
+            for (int i = -20; i < times.length; i++) {
+                long start = System.nanoTime();
+                model.toggleSort(column);
+                if (i >= 0) {
+                    times[i] = System.nanoTime() - start;
+                }
+            }
+            Arrays.sort(times);
+            assertTrue(times[10] < 50_000_000L, "sorting " + TURFS + " turfs took " + times[10] / 1_000_000 + " ms");
+            if (!model.isDescending()) {
+                model.toggleSort(column);
+            }
+            boolean byBookings = column == OwnerTurfTableModel.BOOKINGS;
+            double first = byBookings ? model.getBookingsAt(0) : model.getIncomeAt(0);
+            double second = byBookings ? model.getBookingsAt(1) : model.getIncomeAt(1);
+            assertEquals(byBookings ? maxBookings : maxIncome, first);
+            assertTrue(first >= second, "descending sort starts " + first + ", " + second);
+        }
+        assertTrue(model.getRowCount() <= OwnerTurfTableModel.DEFAULT_PAGE_SIZE, "one page of rows, not " + model.getRowCount());
+        assertTrue(model.getPageCount() >= TURFS / OwnerTurfTableModel.DEFAULT_PAGE_SIZE);
+    }
+
+    @Test
+    void addedTurfsKeepTheSortOrder() {
+        OwnerTurfTableModel model = sortedByBookings();
+        addTurfs(model, 2_000);
+
+        String[] insertedOrder = new String[model.getRowCount()];
+        for (int row = 0; row < insertedOrder.length; row++) {
+            insertedOrder[row] = model.getTurfAt(row).id;
+        }
+        model.setFilter("t"); // matches every turf, but rebuilds and re-sorts the view
+        model.setFilter("");
+        assertEquals(2_000, model.getMatchCount());
+        for (int row = 0; row < insertedOrder.length; row++) {
+            assertEquals(insertedOrder[row], model.getTurfAt(row).id, "row " + row);
+        }
+    }
+
+    /**
+     * An add into 10k sorted turfs must not re-sort (a full re-sort takes milliseconds), and
+     * the heap retained per turf must not grow with the table.
+     */
+    @Test
+    void addTurfStaysCheapAtTenThousandTurfs() throws InterruptedException {
+        addTurfs(sortedByBookings(), 1_000); // warm up
+        long before = settledHeapBytes();
+        OwnerTurfTableModel small = sortedByBookings();
+        addTurfs(small, 1_000);
+        double bytesPerTurfAt1k = (settledHeapBytes() - before) / 1_000.0;
+
+        OwnerTurfTableModel large = sortedByBookings();
+        before = settledHeapBytes();
+        long start = System.nanoTime();
+        addTurfs(large, TURFS);
+        double nanosPerAdd = (System.nanoTime() - start) / (double) TURFS;
+        double bytesPerTurf = (settledHeapBytes() - before) / (double) TURFS;
+
+        assertTrue(nanosPerAdd < 100_000, String.format("addTurf into %d turfs took %.1f us per add", TURFS, nanosPerAdd / 1_000.0));
+        assertTrue(bytesPerTurf <= Math.max(2 * bytesPerTurfAt1k, 1024),
+            String.format("heap grows with size: %.0f B/turf at 1k, %.0f B/turf at %d", bytesPerTurfAt1k, bytesPerTurf, TURFS));
+        // Also keeps both tables reachable until their heap has been measured
+        assertEquals(1_000, small.getMatchCount());
+        assertEquals(TURFS, large.getMatchCount());
+    }
+
+    private static OwnerTurfTableModel sortedByBookings() {
+        OwnerTurfTableModel model = new OwnerTurfTableModel();
+        model.installMetrics(OwnerTurfTableModel.computeMetrics(new String[0], new BookingAggregates(16)));
+        model.toggleSort(OwnerTurfTableModel.BOOKINGS);
+        return model;
+    }
+
+    /** Adds count turfs with random metrics one at a time, as "Add New Turf" does. */
+    private static void addTurfs(OwnerTurfTableModel model, int count) {
+        BookingAggregates aggregates = new BookingAggregates(count);
+        Random random = new Random(7);
+        for (int i = 0; i < count; i++) {
+            TurfOwnerDashboard.Turf turf = new TurfOwnerDashboard.Turf("T" + i, "Turf " + i, "Street " + i, 1000.0);
+            aggregates.add(turf.id, random.nextInt(5_000), random.nextInt(5_000_000) / 100.0);
+            model.addTurf(turf, aggregates);
+        }
+    }
+
+    /** Used heap after a few GCs, the lowest of the readings. */
+    private static long settledHeapBytes() throws InterruptedException {
+        Runtime runtime = Runtime.getRuntime();
+        long used = Long.MAX_VALUE;
+        for (int i = 0; i < 5; i++) {
+            System.gc();
+            Thread.sleep(50);
+            used = Math.min(used, runtime.totalMemory() - runtime.freeMemory());
+        }
+        return used;
+    }
+}
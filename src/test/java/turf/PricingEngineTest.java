@@ -0,0 +1,83 @@
+package turf;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class PricingEngineTest {
+
+    private static final int TURFS = 200;
+
+    private final SlotAvailability availability = new SlotAvailability();
+    private final PricingEngine engine = new PricingEngine(availability);
+    private final int[] turfIds = new int[TURFS];
+    private final double[] baseRates = new double[TURFS];
+    private final LocalDate start = LocalDate.now();
+
+    /** A week with a third of every turf's slots booked. */
+    @BeforeEach
+    void bookAThirdOfTheWeek() {
+        for (int i = 0; i < TURFS; i++) {
+            turfIds[i] = i + 1;
+            baseRates[i] = 800.0 + (i % 9) * 150.0;
+            availability.registerTurf(turfIds[i], "06:00 - 23:00");
+            for (int d = 0; d < 7; d++) {
+                for (int hour = 6 + (i + d) % 3; hour < 23; hour += 3) {
+                    availability.markBooked(turfIds[i], start.plusDays(d), hour);
+                }
+            }
+        }
+    }
+
+    @Test
+    void weekGridMatchesDayQuotes() {
+        PricingEngine.Grid grid = engine.quoteWeek(turfIds, baseRates, start);
+        for (int i = 0; i < TURFS; i += 7) {
+            for (int d = 0; d < 7; d++) {
+                assertArrayEquals(engine.quoteDay(turfIds[i], baseRates[i], start.plusDays(d)), grid.day(i, d),
+                    "turf " + turfIds[i] + " day " + d);
+            }
+        }
+    }
+
+    /** Past the bound the least recently used turf-days go, not the whole cache. */
+    @Test
+    void cacheEvictsLeastRecentlyUsedDays() {
+        int turfs = PricingEngine.CACHE_SIZE / 7 + 1;
+        int[] ids = new int[turfs];
+        double[] rates = new double[turfs];
+        for (int i = 0; i < turfs; i++) {
+            ids[i] = 100_000 + i;
+            rates[i] = 1000.0;
+            availability.registerTurf(ids[i], "06:00 - 23:00");
+        }
+        engine.quoteWeek(ids, rates, start);
+        assertEquals(PricingEngine.CACHE_SIZE, engine.cachedDays());
+
+        engine.quoteDay(turfIds[0], baseRates[0], start);
+        assertEquals(PricingEngine.CACHE_SIZE, engine.cachedDays());
+    }
+
+    @Test
+    void quoteDayReturnsACopy() {
+        double[] first = engine.quoteDay(turfIds[0], baseRates[0], start);
+        double expected = first[20];
+        first[20] = -1;
+        assertEquals(expected, engine.quoteDay(turfIds[0], baseRates[0], start)[20]);
+    }
+
+    @Test
+    void cachedGridPicksUpNewBooking() {
+        int changed = TURFS / 3;
+        double before = engine.quoteWeek(turfIds, baseRates, start).price(changed, 0, 22);
+        availability.markBooked(turfIds[changed], start, 7);
+
+        PricingEngine.Grid requoted = engine.quoteWeek(turfIds, baseRates, start);
+        assertArrayEquals(engine.quoteDay(turfIds[changed], baseRates[changed], start), requoted.day(changed, 0));
+        assertTrue(requoted.price(changed, 0, 22) > before, "a busier day must price its late slot higher");
+    }
+}
@@ -0,0 +1,110 @@
+package turf;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+/** Read/write routing against a simulated primary and two replicas (in-process JDBC fakes). */
+class RoutingDataSourceTest {
+
+    private final SimulatedDatabase primary = SimulatedDatabase.create("primary");
+    private final SimulatedDatabase replica1 = SimulatedDatabase.create("replica1");
+    private final SimulatedDatabase replica2 = SimulatedDatabase.create("replica2");
+    private final Map<String, ConnectionPool> replicas = new LinkedHashMap<>();
+
+    RoutingDataSourceTest() {
+        replicas.put(replica1.url, replica1.pool);
+        replicas.put(replica2.url, replica2.pool);
+    }
+
+    @AfterEach
+    void closePools() {
+        for (SimulatedDatabase db : Arrays.asList(primary, replica1, replica2)) {
+            db.pool.close();
+        }
+    }
+
+    @Test
+    void roundRobinWithReadYourWritesAndFailover() throws SQLException {
+        RoutingDataSource router = new RoutingDataSource(primary.pool, replicas, RoutingDataSource.Strategy.ROUND_ROBIN, 60_000);
+        for (int i = 0; i < 10; i++) {
+            query(router.getReadConnection(null));
+        }
+        expectQueries("round robin", 0, 5, 5);
+
+        router.recordWrite("alice");
+        query(router.getReadConnection("alice"));
+        query(router.getReadConnection("bob"));
+        expectQueries("read-your-writes", 1, 6, 5);
+
+        replica1.up = false;
+        for (int i = 0; i < 4; i++) {
+            query(router.getReadConnection(null));
+        }
+        expectQueries("failover", 1, 6, 9);
+        replica1.up = true;
+        router.checkHealth();
+        query(router.getReadConnection(null));
+        query(router.getReadConnection(null));
+        expectQueries("recovery", 1, 7, 10);
+
+        replica1.up = false;
+        replica2.up = false;
+        router.checkHealth();
+        query(router.getReadConnection(null));
+        expectQueries("all replicas down", 2, 7, 10);
+    }
+
+    @Test
+    void leastLoadedPrefersReplicaWithFewerConnectionsOut() throws SQLException {
+        RoutingDataSource router = new RoutingDataSource(primary.pool, replicas, RoutingDataSource.Strategy.LEAST_LOADED, 60_000);
+        Connection held = router.getReadConnection(null); // replica1 now has a connection out
+        try {
+            query(router.getReadConnection(null));
+            query(router.getReadConnection(null));
+        } finally {
+            held.close();
+        }
+        expectQueries("least loaded", 0, 0, 2);
+    }
+
+    /** Every replica1 connection out: the health check times out but must not mark it down. */
+    @Test
+    void busyReplicaStaysInRotation() throws SQLException {
+        RoutingDataSource router = new RoutingDataSource(primary.pool, replicas, RoutingDataSource.Strategy.ROUND_ROBIN, 60_000);
+        List<Connection> busy = new ArrayList<>();
+        try {
+            for (int i = 0; i < 4; i++) {
+                busy.add(replica1.pool.getConnection());
+            }
+            router.checkHealth();
+        } finally {
+            for (Connection conn : busy) {
+                conn.close();
+            }
+        }
+        query(router.getReadConnection(null));
+        query(router.getReadConnection(null));
+        expectQueries("busy replica", 0, 1, 1);
+    }
+
+    private static void query(Connection conn) throws SQLException {
+        try (Connection c = conn; PreparedStatement pst = c.prepareStatement("SELECT 1")) {
+            pst.executeQuery();
+        }
+    }
+
+    private void expectQueries(String step, int primaryQueries, int replica1Queries, int replica2Queries) {
+        assertEquals(primaryQueries + "/" + replica1Queries + "/" + replica2Queries,
+            primary.queries + "/" + replica1.queries + "/" + replica2.queries, "queries primary/replica1/replica2 after " + step);
+    }
+}
@@ -0,0 +1,101 @@
+package turf;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.Driver;
+import java.sql.DriverManager;
+import java.sql.DriverPropertyInfo;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A stand-in database reachable as jdbc:turfsim:<name> through an in-process driver.
+ * It only counts prepared statements; while down, connecting fails and existing
+ * connections report themselves invalid.
+ */
+final class SimulatedDatabase {
+    private static final String PREFIX = "jdbc:turfsim:";
+    private static final Map<String, SimulatedDatabase> DATABASES = new ConcurrentHashMap<>();
+
+    final String url;
+    final ConnectionPool pool;
+    final AtomicInteger queries = new AtomicInteger();
+    volatile boolean up = true;
+
+    static {
+        try {
+            DriverManager.registerDriver(driver());
+        } catch (SQLException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    static SimulatedDatabase create(String name) {
+        SimulatedDatabase db = new SimulatedDatabase(PREFIX + name);
+        DATABASES.put(db.url, db);
+        return db;
+    }
+
+    private SimulatedDatabase(String url) {
+        this.url = url;
+        // Validate on every borrow (idle limit -1 ms) so a database going down is noticed at once
+        this.pool = new ConnectionPool(url, "test", "", 4, 200, -1);
+    }
+
+    private static Driver driver() {
+        return proxy(Driver.class, (method, args) -> {
+            switch (method.getName()) {
+                case "acceptsURL": return ((String) args[0]).startsWith(PREFIX);
+                case "connect": {
+                    SimulatedDatabase db = DATABASES.get((String) args[0]);
+                    if (db == null) {
+                        return null;
+                    }
+                    if (!db.up) {
+                        throw new SQLException("Connection refused: " + db.url, "08001");
+                    }
+                    return db.connection();
+                }
+                case "getPropertyInfo": return new DriverPropertyInfo[0];
+                default: return null;
+            }
+        });
+    }
+
+    private Connection connection() {
+        return proxy(Connection.class, (method, args) -> {
+            switch (method.getName()) {
+                case "isValid": return up;
+                case "getAutoCommit": return true;
+                case "prepareStatement":
+                    queries.incrementAndGet();
+                    return proxy(PreparedStatement.class, (m, a) -> null);
+                default: return null;
+            }
+        });
+    }
+
+    interface Handler {
+        Object handle(Method method, Object[] args) throws Throwable;
+    }
+
+    /** A proxy answering unhandled calls with null, false or zero as the return type needs. */
+    private static <T> T proxy(Class<T> type, Handler handler) {
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] {type}, (self, method, args) -> {
+            if (method.getName().equals("toString")) {
+                return type.getSimpleName() + "@simulated";
+            }
+            Object result = handler.handle(method, args);
+            if (result != null || !method.getReturnType().isPrimitive() || method.getReturnType() == void.class) {
+                return result;
+            }
+            Class<?> returnType = method.getReturnType();
+            return returnType == boolean.class ? Boolean.FALSE : returnType == long.class ? Long.valueOf(0)
+                : returnType == double.class ? Double.valueOf(0) : returnType == float.class ? Float.valueOf(0) : Integer.valueOf(0);
+        }));
+    }
+}
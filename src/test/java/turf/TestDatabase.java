@@ -0,0 +1,115 @@
+package turf;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * The embedded database that database tests and benchmarks run against: schema.sql loaded
+ * into the JDBC URL in turf.db.url, which the Maven build points at an in-memory H2
+ * database. Fails instead of skipping when turf.db.url is not set, so a misconfigured
+ * run cannot pass without having tested anything.
+ */
+final class TestDatabase {
+
+    static final String PASSWORD = "test-password";
+    static final String[] CATEGORIES = {"Football", "Cricket", "Badminton", "Tennis"};
+
+    private static boolean schemaLoaded;
+
+    private TestDatabase() {}
+
+    /**
+     * Creates the schema on first use and deletes every row, leaving an empty database. Also
+     * deletes the owners' stats snapshots, which would otherwise still count deleted bookings.
+     */
+    static synchronized void reset() throws IOException, SQLException {
+        if (System.getProperty("turf.db.url") == null) {
+            throw new IllegalStateException("turf.db.url is not set. Run through Maven (mvn -B test, or mvn -B -Pjmh verify), "
+                + "which points it at an embedded H2 database, or pass -Dturf.db.url=<jdbc url> yourself.");
+        }
+        try (Connection conn = DBConnection.getConnection(); Statement st = conn.createStatement()) {
+            if (!schemaLoaded) {
+                String script = new String(Files.readAllBytes(Paths.get(System.getProperty("turf.schema", "schema.sql"))),
+                    StandardCharsets.UTF_8).replaceAll("(?m)^\\s*--.*$", "");
+                for (String sql : script.split(";")) {
+                    if (!sql.trim().isEmpty()) {
+                        st.execute(sql);
+                    }
+                }
+                schemaLoaded = true;
+            }
+            st.executeUpdate("DELETE FROM bookings");
+            st.executeUpdate("DELETE FROM turfs");
+            st.executeUpdate("DELETE FROM users");
+        }
+        TurfService.invalidateCatalog();
+        Path snapshots = OwnerStatsSnapshot.fileFor("owner").toAbsolutePath().getParent();
+        if (Files.isDirectory(snapshots)) {
+            try (DirectoryStream<Path> files = Files.newDirectoryStream(snapshots, "stats-*")) {
+                for (Path file : files) {
+                    Files.delete(file);
+                }
+            }
+        }
+    }
+
+    /** Inserts turfs "Turf 0".. owned by owner0..owner9 round robin, categories round robin. */
+    static void seedTurfs(int count) throws SQLException {
+        try (Connection conn = DBConnection.getConnection();
+             PreparedStatement pst = conn.prepareStatement(
+                 "INSERT INTO turfs(owner_username, name, address, hourly_rate, operating_hours, category) VALUES (?, ?, ?, ?, ?, ?)")) {
+            conn.setAutoCommit(false);
+            for (int i = 0; i < count; i++) {
+                pst.setString(1, "owner" + (i % 10));
+                pst.setString(2, "Turf " + i);
+                pst.setString(3, "Street " + i);
+                pst.setDouble(4, 1000 + (i % 5) * 250);
+                pst.setString(5, "06:00 - 23:00");
+                pst.setString(6, CATEGORIES[i % CATEGORIES.length]);
+                pst.addBatch();
+            }
+            pst.executeBatch();
+            conn.commit();
+            conn.setAutoCommit(true);
+        }
+        TurfService.invalidateCatalog();
+    }
+
+    /** Inserts users user0..user(count-1), all with PASSWORD. */
+    static void seedUsers(int count) throws SQLException {
+        // One hash shared by every seeded user keeps fixture setup fast
+        String hash = PasswordHasher.hash(PASSWORD.toCharArray());
+        try (Connection conn = DBConnection.getConnection();
+             PreparedStatement pst = conn.prepareStatement("INSERT INTO users(username, email, password, role) VALUES (?, ?, ?, ?)")) {
+            conn.setAutoCommit(false);
+            for (int i = 0; i < count; i++) {
+                pst.setString(1, "user" + i);
+                pst.setString(2, "user" + i + "@example.com");
+                pst.setString(3, hash);
+                pst.setString(4, "User");
+                pst.addBatch();
+            }
+            pst.executeBatch();
+            conn.commit();
+            conn.setAutoCommit(true);
+        }
+    }
+
+    /** Runs one statement on the primary, e.g. to insert a row with a chosen id. */
+    static int execute(String sql, Object... params) throws SQLException {
+        try (Connection conn = DBConnection.getConnection(); PreparedStatement pst = conn.prepareStatement(sql)) {
+            for (int i = 0; i < params.length; i++) {
+                pst.setObject(i + 1, params[i]);
+            }
+            return pst.executeUpdate();
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package turf;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Load test of the headless HTTP service against the embedded test database: concurrent
+ * clients on keep-alive connections for a fixed time per endpoint. Fails on any non-2xx
+ * response and prints requests/sec and latency percentiles.
+ *
+ *   turf.test.httpClients   concurrent clients, default 32
+ *   turf.test.httpMillis    measured time per endpoint, default 3000 (after a 1 s warm-up)
+ */
+class TurfApiServerTest {
+
+    private static final int CLIENTS = Integer.getInteger("turf.test.httpClients", 32);
+    private static final long MILLIS = Long.getLong("turf.test.httpMillis", 3000L);
+    private static final int USERS = 50;
+
+    private static TurfApiServer api;
+    private static String base;
+    private static final HttpClient CLIENT = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+
+    @BeforeAll
+    static void start() throws Exception {
+        TestDatabase.reset();
+        TestDatabase.seedTurfs(1_000);
+        TestDatabase.seedUsers(USERS);
+        api = TurfApiServer.start(0);
+        base = "http://localhost:" + api.getPort() + "/api";
+    }
+
+    @AfterAll
+    static void stop() {
+        if (api != null) {
+            api.stop(0);
+        }
+    }
+
+    @Test
+    void listTurfsUnderLoad() throws Exception {
+        HttpResponse<String> first = CLIENT.send(listTurfs(), HttpResponse.BodyHandlers.ofString());
+        assertEquals(200, first.statusCode(), first.body());
+        assertTrue(first.body().contains("\"name\""), first.body());
+        load("GET /api/turfs", this::listTurfs);
+    }
+
+    /** Every user has logged in once, so these are repeat logins (verified-credential cache hits). */
+    @Test
+    void repeatLoginUnderLoad() throws Exception {
+        for (int i = 0; i < USERS; i++) {
+            HttpResponse<String> response = CLIENT.send(login(i), HttpResponse.BodyHandlers.ofString());
+            assertEquals(200, response.statusCode(), response.body());
+            assertTrue(response.body().contains("token"), response.body());
+        }
+        AtomicInteger next = new AtomicInteger();
+        load("POST /api/login", () -> login(next.getAndIncrement() % USERS));
+    }
+
+    private HttpRequest listTurfs() {
+        return HttpRequest.newBuilder(URI.create(base + "/turfs?category=Football&limit=20")).GET().build();
+    }
+
+    private HttpRequest login(int user) {
+        String body = "{\"username\":\"user" + user + "\",\"password\":\"" + TestDatabase.PASSWORD + "\"}";
+        return HttpRequest.newBuilder(URI.create(base + "/login"))
+            .header("Content-Type", "application/json")
+            .POST(HttpRequest.BodyPublishers.ofString(body)).build();
+    }
+
+    private static void load(String endpoint, Supplier<HttpRequest> requests) throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(CLIENTS);
+        try {
+            runClients(pool, requests, 1000);
+            long start = System.nanoTime();
+            List<long[]> perClient = runClients(pool, requests, MILLIS);
+            double seconds = (System.nanoTime() - start) / 1e9;
+
+            int count = 0;
+            for (long[] latencies : perClient) {
+                count += latencies.length;
+            }
+            long[] sorted = new long[count];
+            int offset = 0;
+            for (long[] latencies : perClient) {
+                System.arraycopy(latencies, 0, sorted, offset, latencies.length);
+                offset += latencies.length;
+            }
+            Arrays.sort(sorted);
+            assertTrue(count > 0, "no requests completed");
+            System.err.printf("📊 %s, %d clients: %,.0f requests/s, p50 %.2f ms, p90 %.2f ms, p99 %.2f ms, max %.2f ms%n",
+                endpoint, CLIENTS, count / seconds, percentile(sorted, 0.50), percentile(sorted, 0.90),
+                percentile(sorted, 0.99), sorted[count - 1] / 1e6);
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    /** Runs the clients for the given time; each returns the latency of every request it sent. */
+    private static List<long[]> runClients(ExecutorService pool, Supplier<HttpRequest> requests, long millis) throws Exception {
+        long deadline = System.nanoTime() + millis * 1_000_000L;
+        List<Future<long[]>> futures = new ArrayList<>();
+        for (int i = 0; i < CLIENTS; i++) {
+            futures.add(pool.submit(() -> {
+                long[] latencies = new long[1024];
+                int n = 0;
+                while (System.nanoTime() < deadline) {
+                    HttpRequest request = requests.get();
+                    long start = System.nanoTime();
+                    HttpResponse<String> response = CLIENT.send(request, HttpResponse.BodyHandlers.ofString());
+                    long elapsed = System.nanoTime() - start;
+                    if (response.statusCode() / 100 != 2) {
+                        throw new AssertionError(request.uri() + " returned " + response.statusCode() + ": " + response.body());
+                    }
+                    if (n == latencies.length) {
+                        latencies = Arrays.copyOf(latencies, n * 2);
+                    }
+                    latencies[n++] = elapsed;
+                }
+                return Arrays.copyOf(latencies, n);
+            }));
+        }
+        List<long[]> results = new ArrayList<>();
+        for (Future<long[]> future : futures) {
+            results.add(future.get());
+        }
+        return results;
+    }
+
+    /** The given percentile of sorted nanosecond latencies, in milliseconds. */
+    private static double percentile(long[] sorted, double fraction) {
+        int index = (int) Math.ceil(fraction * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(sorted.length - 1, index))] / 1e6;
+    }
+}
@@ -0,0 +1,49 @@
+package turf;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class TurfSearchIndexTest {
+
+    private static TurfModel turf(int id, String name, String address) {
+        return new TurfModel(id, name, address, 1000.0, "06:00 - 23:00", "Football");
+    }
+
+    private final TurfSearchIndex index = new TurfSearchIndex();
+
+    TurfSearchIndexTest() {
+        index.addAll(Arrays.asList(
+            turf(1, "Champions Arena", "12 Park Street, Bandra"),
+            turf(2, "Royal Court", "3 Hill Top, Koramangala"),
+            turf(3, "Green Pitch", "45 Lake View, Powai"),
+            turf(4, "Champions Dome", "7 Station Road, Andheri")));
+    }
+
+    @Test
+    void prefixAndFullNameMatchesRankFirst() {
+        assertEquals(1, index.search("champions arena", 10).get(0).getId());
+        List<TurfModel> prefix = index.search("cham", 10);
+        assertEquals(2, prefix.size());
+        assertTrue(prefix.stream().allMatch(t -> t.getName().startsWith("Champions")));
+    }
+
+    @Test
+    void toleratesTyposAndMatchesAddresses() {
+        assertEquals(1, index.search("chmpions arena", 10).get(0).getId());
+        assertEquals(3, index.search("lake view powai", 10).get(0).getId());
+    }
+
+    @Test
+    void replaceAllDropsTurfsNoLongerInTheCatalog() {
+        index.replaceAll(Arrays.asList(turf(2, "Royal Court", "3 Hill Top, Koramangala")));
+        assertFalse(index.contains(1));
+        assertTrue(index.contains(2));
+        assertTrue(index.search("champions", 10).isEmpty());
+        assertEquals(2, index.getMaxTurfId());
+    }
+}
@@ -0,0 +1,46 @@
+package turf;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/** Catalog queries and the search index refresh, against the embedded test database. */
+class TurfServiceTest {
+
+    @BeforeEach
+    void seed() throws Exception {
+        TestDatabase.reset();
+        TestDatabase.seedTurfs(40);
+    }
+
+    @Test
+    void categoryListingIsCachedUntilInvalidated() throws Exception {
+        List<TurfModel> football = TurfService.getTurfsByCategory("Football");
+        assertEquals(10, football.size());
+        assertSame(football, TurfService.getTurfsByCategory("Football"));
+
+        TurfService.registerTurf("owner1", "New Turf", "1 New Street", 1200.0);
+        assertEquals(11, TurfService.getTurfsByCategory("Football").size());
+    }
+
+    /** A turf committed after the index loaded, with an id below the highest indexed one. */
+    @Test
+    void searchRefreshCatchesOutOfOrderCommits() throws Exception {
+        List<TurfModel> all = TurfService.getTurfsByCategory("Football");
+        int lateId = all.get(all.size() / 2).getId();
+        TestDatabase.execute("DELETE FROM turfs WHERE id = ?", lateId);
+        TurfService.invalidateCatalog();
+        assertTrue(TurfService.searchTurfs("riverside arena", 5).isEmpty());
+
+        TestDatabase.execute("INSERT INTO turfs(id, owner_username, name, address, hourly_rate, operating_hours, category) "
+            + "VALUES (?, 'owner1', 'Riverside Arena', '9 Riverside', 1000, '06:00 - 23:00', 'Football')", lateId);
+        TurfService.invalidateCatalog();
+        List<TurfModel> found = TurfService.searchTurfs("riverside arena", 5);
+        assertEquals(1, found.size());
+        assertEquals(lateId, found.get(0).getId());
+    }
+}
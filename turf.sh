@@ -0,0 +1,80 @@
+#!/usr/bin/env sh
+# Launcher for the Turf Booking desktop app. Builds out/turf.jar from src/main/java with
+# plain javac, so it runs without Maven (mvn -B package builds the same classes into target/).
+#
+#   ./turf.sh [--cds] [--measure N] [MainClass] [args...]      (MainClass defaults to LoginSignup)
+#
+#   --cds        Start from an AppCDS archive (out/turf.jsa). The first run records it by
+#                starting the app once and exiting at the first painted frame; later runs
+#                map the archived classes instead of loading and verifying them again.
+#   --measure N  Start N times, exiting at the first painted frame, and print each
+#                JVM-start-to-first-paint time. Compare with and without --cds.
+#
+# Both options need a display and one of the GUI mains (LoginSignup, TurfHub,
+# TurfOwnerDashboard): only those exit by themselves after the first paint.
+#
+# Put the JDBC driver on the classpath with TURF_CP, e.g. TURF_CP=mysql-connector-j.jar ./turf.sh
+# Extra JVM flags (e.g. -Dturf.db.url=...) go in JAVA_OPTS.
+set -e
+cd "$(dirname "$0")"
+
+OUT=out
+JAR="$OUT/turf.jar"
+ARCHIVE="$OUT/turf.jsa"
+CDS=0
+RUNS=0
+
+while [ $# -gt 0 ]; do
+    case "$1" in
+        --cds) CDS=1; shift ;;
+        --measure) RUNS="$2"; shift 2 ;;
+        *) break ;;
+    esac
+done
+MAIN="${1:-LoginSignup}"
+[ $# -gt 0 ] && shift
+
+# Mains live in package turf; accept the bare class name too
+case "$MAIN" in
+    *.*) ;;
+    *) MAIN="turf.$MAIN" ;;
+esac
+
+if [ "$CDS" = 1 ] || [ "$RUNS" -gt 0 ]; then
+    case "$MAIN" in
+        turf.LoginSignup|turf.TurfHub|turf.TurfOwnerDashboard) ;;
+        *) echo "--cds and --measure only work with LoginSignup, TurfHub or TurfOwnerDashboard, not $MAIN" >&2
+           exit 2 ;;
+    esac
+fi
+
+# CDS only archives classes loaded from JAR files, so the app runs from a jar
+if [ ! -f "$JAR" ] || [ -n "$(find src/main/java -name '*.java' -newer "$JAR")" ]; then
+    echo "Building $JAR..."
+    rm -rf "$OUT/classes" "$ARCHIVE"
+    javac -encoding UTF-8 -d "$OUT/classes" src/main/java/turf/*.java
+    jar cf "$JAR" -C "$OUT/classes" .
+fi
+
+CP="$JAR${TURF_CP:+:$TURF_CP}"
+FLAGS=""
+if [ "$CDS" = 1 ]; then
+    if [ ! -f "$ARCHIVE" ]; then
+        echo "Recording AppCDS archive $ARCHIVE..."
+        java -XX:ArchiveClassesAtExit="$ARCHIVE" -Xlog:cds=off -Dturf.startup.exitAfterPaint=true $JAVA_OPTS -cp "$CP" "$MAIN" "$@"
+    fi
+    FLAGS="-XX:SharedArchiveFile=$ARCHIVE"
+fi
+
+if [ "$RUNS" -gt 0 ]; then
+    i=1
+    while [ "$i" -le "$RUNS" ]; do
+        # A run that never paints (no display, a crash) reports that instead of stopping the loop
+        java $FLAGS -Dturf.startup.timing=true -Dturf.startup.exitAfterPaint=true $JAVA_OPTS -cp "$CP" "$MAIN" "$@" 2>&1 \
+            | grep "first frame painted" || echo "run $i: no frame painted"
+        i=$((i + 1))
+    done
+    exit 0
+fi
+
+exec java $FLAGS $JAVA_OPTS -cp "$CP" "$MAIN" "$@"